@@ -0,0 +1,104 @@
+package br.com.microservices.choreography.inventoryservice.core.repository;
+
+import br.com.microservices.choreography.inventoryservice.core.model.Inventory;
+import br.com.microservices.choreography.inventoryservice.core.model.OrderInventory;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes order_inventory rows through {@link OrderInventoryBatchRepositoryImpl}, the path the service uses,
+ * against a Postgres container migrated by the service's Flyway scripts. Each invocation writes {@link #ROWS}
+ * rows in one transaction, either as one insert-if-absent statement per order or as a single multi-row statement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OrderInventoryInsertBenchmark {
+
+    private static final int ROWS = 50;
+
+    private PostgreSQLContainer<?> postgres;
+    private SingleConnectionDataSource dataSource;
+    private OrderInventoryBatchRepositoryImpl repository;
+    private TransactionTemplate transactionTemplate;
+    private Inventory inventory;
+
+    @Setup(Level.Trial)
+    public void setup(){
+        postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+        postgres.start();
+        Flyway.configure()
+            .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+            .load()
+            .migrate();
+        dataSource = new SingleConnectionDataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword(), true);
+        var jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        repository = new OrderInventoryBatchRepositoryImpl(jdbcTemplate);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        inventory = new Inventory();
+        inventory.setId(jdbcTemplate.getJdbcTemplate().queryForObject("SELECT id FROM inventory LIMIT 1", Integer.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown(){
+        dataSource.destroy();
+        postgres.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int insertPerOrder(){
+        var rows = newRows();
+        return transactionTemplate.execute(status -> {
+            var inserted = 0;
+            for (var row : rows) {
+                if(repository.insertIfAbsent(List.of(row)))
+                    inserted++;
+            }
+            return inserted;
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int insertAllIfAbsent(){
+        var rows = newRows();
+        return transactionTemplate.execute(status -> repository.insertAllIfAbsent(rows).size());
+    }
+
+    private List<OrderInventory> newRows(){
+        var rows = new ArrayList<OrderInventory>(ROWS);
+        for (int row = 0; row < ROWS; row++) {
+            rows.add(OrderInventory
+                .builder()
+                .inventory(inventory)
+                .orderId(UUID.randomUUID().toString())
+                .transactionId(UUID.randomUUID().toString())
+                .orderQuantity(1)
+                .oldQuantity(2)
+                .newQuantity(1)
+                .build());
+        }
+        return rows;
+    }
+
+}
@@ -3,7 +3,10 @@ package br.com.microservices.choreography.inventoryservice;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
-@SpringBootApplication
+@SpringBootApplication(scanBasePackages = {
+		"br.com.microservices.choreography.inventoryservice",
+		"br.com.microservices.choreography.sagacore"
+})
 public class InventoryServiceApplication {
 
 	public static void main(String[] args) {
@@ -1,24 +1,35 @@
 package br.com.microservices.choreography.inventoryservice.core.consumer;
 
 
+import br.com.microservices.choreography.sagacore.config.exception.ValidationException;
+import br.com.microservices.choreography.sagacore.core.consumer.KeyOrderedDispatcher;
+import br.com.microservices.choreography.sagacore.core.dto.Event;
 import br.com.microservices.choreography.inventoryservice.core.service.InventoryService;
-import br.com.microservices.choreography.inventoryservice.core.utils.JsonUtil;
+import br.com.microservices.choreography.sagacore.core.utils.JsonUtil;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Slf4j
 @AllArgsConstructor
 @Component
 public class InventoryConsumer {
 
     private final JsonUtil jsonUtil;
+    private final KeyOrderedDispatcher dispatcher;
     private final InventoryService inventoryService;
 
     @KafkaListener(
         groupId = "${spring.kafka.consumer.group-id}",
-        topics = "${spring.kafka.topic.inventory-success}")
+        topics = "${spring.kafka.topic.inventory-success}",
+        autoStartup = "#{!${saga.parallel-consumer.enabled}}")
     public void consumeSuccessEvent(String payload){
         log.info("Receiving success event {} from inventory-success topic",
                 payload);
@@ -27,13 +38,50 @@ public class InventoryConsumer {
     }
 
     @KafkaListener(
-            groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.inventory-fail}")
-    public void consumeFailEvent(String payload){
-        log.info("Receiving rollback event {} from inventory-fail topic",
+        id = "inventory-priority",
+        groupId = "${spring.kafka.consumer.group-id}",
+        topics = "${spring.kafka.topic.inventory-success}${saga.priority-lanes.suffix}",
+        concurrency = "${saga.priority-lanes.concurrency}",
+        autoStartup = "${saga.priority-lanes.enabled}")
+    public void consumePrioritySuccessEvent(String payload){
+        log.info("Receiving priority success event {} from inventory-success priority topic",
                 payload);
         var event = jsonUtil.toEvent(payload);
-        inventoryService.rollbackInventory(event);
+        inventoryService.updateInventory(event);
+    }
+
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.inventory-success}",
+            containerFactory = "parallelListenerContainerFactory",
+            autoStartup = "${saga.parallel-consumer.enabled}",
+            properties = "max.poll.records=${saga.parallel-consumer.batch-size}")
+    public void consumeSuccessEventInParallel(ConsumerRecord<String, String> record, Acknowledgment acknowledgment){
+        log.info("Receiving success event {} from inventory-success topic",
+                record.value());
+        dispatcher.dispatch(record, acknowledgment, jsonUtil::toEvent, Event::getTransactionId, inventoryService::updateInventory);
+    }
+
+    @KafkaListener(
+            id = "inventory-compensation",
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.inventory-fail}",
+            concurrency = "${saga.compensation.concurrency}",
+            containerFactory = "batchListenerContainerFactory",
+            properties = "max.poll.records=${spring.kafka.consumer.rollback-batch-size}")
+    public void consumeFailEvents(List<String> payloads){
+        log.info("Receiving {} rollback events from inventory-fail topic",
+                payloads.size());
+        var events = new ArrayList<Event>(payloads.size());
+        for (var index = 0; index < payloads.size(); index++) {
+            try{
+                events.add(jsonUtil.toEvent(payloads.get(index)));
+            }catch (ValidationException e){
+                inventoryService.rollbackInventories(events);
+                throw new BatchListenerFailedException(e.getMessage(), e, index);
+            }
+        }
+        inventoryService.rollbackInventories(events);
     }
 
 }
@@ -0,0 +1,45 @@
+package br.com.microservices.choreography.inventoryservice.core.consumer;
+
+import br.com.microservices.choreography.inventoryservice.core.service.InventoryService;
+import br.com.microservices.choreography.sagacore.core.replay.ReplayPayloads;
+import br.com.microservices.choreography.sagacore.core.replay.SagaReplayHandler;
+import br.com.microservices.choreography.sagacore.core.utils.JsonUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class InventoryReplayHandler implements SagaReplayHandler {
+
+    private final JsonUtil jsonUtil;
+    private final InventoryService inventoryService;
+
+    @Value("${spring.kafka.topic.inventory-success}")
+    private String inventorySuccessTopic;
+
+    @Value("${spring.kafka.topic.inventory-fail}")
+    private String inventoryFailTopic;
+
+    @Value("${saga.priority-lanes.suffix}")
+    private String priorityLaneSuffix;
+
+    @Override
+    public boolean supports(String topic){
+        return inventorySuccessTopic.equals(topic)
+                || inventorySuccessTopic.concat(priorityLaneSuffix).equals(topic)
+                || inventoryFailTopic.equals(topic);
+    }
+
+    @Override
+    public void replay(String topic, List<String> payloads){
+        var events = ReplayPayloads.parse(topic, payloads, jsonUtil::toEvent);
+        if(inventoryFailTopic.equals(topic))
+            inventoryService.rollbackInventories(events);
+        else
+            inventoryService.updateInventories(events);
+    }
+
+}
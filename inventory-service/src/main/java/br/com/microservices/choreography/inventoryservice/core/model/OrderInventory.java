@@ -13,7 +13,9 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @Entity
 @Builder
-@Table(name = "order_inventory")
+@Table(name = "order_inventory", uniqueConstraints = @UniqueConstraint(
+        name = "uk_order_inventory_order_transaction_inventory",
+        columnNames = {"order_id", "transaction_id", "inventory_id"}))
 public class OrderInventory {
 
     @Id
@@ -38,6 +40,9 @@ public class OrderInventory {
     @Column(nullable = false)
     private Integer newQuantity;
 
+    @Column(nullable = false)
+    private boolean rolledBack;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
     @Column(nullable = false)
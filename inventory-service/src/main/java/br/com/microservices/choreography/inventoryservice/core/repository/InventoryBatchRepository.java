@@ -0,0 +1,11 @@
+package br.com.microservices.choreography.inventoryservice.core.repository;
+
+import br.com.microservices.choreography.sagacore.core.dto.OrderTransactionKey;
+
+import java.util.List;
+
+public interface InventoryBatchRepository {
+
+    int restoreByOrderIdAndTransactionId(List<OrderTransactionKey> keys);
+
+}
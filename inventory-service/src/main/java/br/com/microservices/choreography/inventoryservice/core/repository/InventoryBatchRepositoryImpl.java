@@ -0,0 +1,45 @@
+package br.com.microservices.choreography.inventoryservice.core.repository;
+
+import br.com.microservices.choreography.sagacore.core.dto.OrderTransactionKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class InventoryBatchRepositoryImpl implements InventoryBatchRepository {
+
+    private static final String RESTORE_BY_KEYS = """
+            WITH rolled_back AS (
+                UPDATE order_inventory
+                   SET rolled_back = true, updated_at = :updatedAt
+                 WHERE (order_id, transaction_id) IN (:keys)
+                   AND rolled_back = false
+             RETURNING inventory_id, order_quantity
+            )
+            UPDATE inventory i
+               SET available = i.available + r.quantity
+              FROM (SELECT inventory_id, SUM(order_quantity) AS quantity
+                      FROM rolled_back
+                     GROUP BY inventory_id) r
+             WHERE r.inventory_id = i.id
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public int restoreByOrderIdAndTransactionId(List<OrderTransactionKey> keys){
+        if(keys.isEmpty())
+            return 0;
+        var params = new MapSqlParameterSource()
+                .addValue("updatedAt", LocalDateTime.now())
+                .addValue("keys", keys
+                        .stream()
+                        .map(key -> new Object[]{key.orderId(), key.transactionId()})
+                        .toList());
+        return jdbcTemplate.update(RESTORE_BY_KEYS, params);
+    }
+
+}
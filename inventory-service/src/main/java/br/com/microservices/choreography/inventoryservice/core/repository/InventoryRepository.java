@@ -2,11 +2,25 @@ package br.com.microservices.choreography.inventoryservice.core.repository;
 
 import br.com.microservices.choreography.inventoryservice.core.model.Inventory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface InventoryRepository extends JpaRepository<Inventory, Integer> {
+public interface InventoryRepository extends JpaRepository<Inventory, Integer>, InventoryBatchRepository {
 
     Optional<Inventory> findByProductCode(String productCode);
 
+    List<Inventory> findByProductCodeIn(Collection<String> productCodes);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Inventory i SET i.available = i.available - :quantity "
+            + "WHERE i.productCode = :productCode AND i.available >= :quantity")
+    int reserve(@Param("productCode") String productCode, @Param("quantity") int quantity);
+
 }
@@ -0,0 +1,17 @@
+package br.com.microservices.choreography.inventoryservice.core.repository;
+
+import br.com.microservices.choreography.inventoryservice.core.model.OrderInventory;
+import br.com.microservices.choreography.sagacore.core.dto.OrderTransactionKey;
+
+import java.util.List;
+import java.util.Set;
+
+public interface OrderInventoryBatchRepository {
+
+    boolean insertIfAbsent(List<OrderInventory> orderInventories);
+
+    Set<OrderTransactionKey> insertAllIfAbsent(List<OrderInventory> orderInventories);
+
+    int markFailed(List<OrderTransactionKey> keys);
+
+}
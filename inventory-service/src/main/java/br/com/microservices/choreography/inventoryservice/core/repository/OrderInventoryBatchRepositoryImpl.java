@@ -0,0 +1,79 @@
+package br.com.microservices.choreography.inventoryservice.core.repository;
+
+import br.com.microservices.choreography.inventoryservice.core.model.OrderInventory;
+import br.com.microservices.choreography.sagacore.core.dto.OrderTransactionKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@RequiredArgsConstructor
+public class OrderInventoryBatchRepositoryImpl implements OrderInventoryBatchRepository {
+
+    private static final String INSERT_IF_ABSENT = """
+            INSERT INTO order_inventory (inventory_id, order_id, transaction_id, order_quantity,
+                                         old_quantity, new_quantity, rolled_back, created_at, updated_at)
+            SELECT r.*, :now, :now
+              FROM (VALUES :rows) AS r (inventory_id, order_id, transaction_id, order_quantity,
+                                        old_quantity, new_quantity, rolled_back)
+            ON CONFLICT (order_id, transaction_id, inventory_id) DO NOTHING
+            RETURNING order_id, transaction_id
+            """;
+
+    private static final String MARK_FAILED_BY_KEYS = """
+            UPDATE order_inventory
+               SET rolled_back = true, new_quantity = old_quantity, updated_at = :updatedAt
+             WHERE (order_id, transaction_id) IN (:keys)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean insertIfAbsent(List<OrderInventory> orderInventories){
+        return !insertAllIfAbsent(orderInventories).isEmpty();
+    }
+
+    @Override
+    public Set<OrderTransactionKey> insertAllIfAbsent(List<OrderInventory> orderInventories){
+        if(orderInventories.isEmpty())
+            return new HashSet<>();
+        var now = LocalDateTime.now();
+        var params = new MapSqlParameterSource()
+                .addValue("now", now)
+                .addValue("rows", orderInventories
+                        .stream()
+                        .map(orderInventory -> new Object[]{
+                                orderInventory.getInventory().getId(),
+                                orderInventory.getOrderId(),
+                                orderInventory.getTransactionId(),
+                                orderInventory.getOrderQuantity(),
+                                orderInventory.getOldQuantity(),
+                                orderInventory.getNewQuantity(),
+                                orderInventory.isRolledBack()})
+                        .toList());
+        orderInventories.forEach(orderInventory -> {
+            orderInventory.setCreatedAt(now);
+            orderInventory.setUpdatedAt(now);
+        });
+        return new HashSet<>(jdbcTemplate.query(INSERT_IF_ABSENT, params, (resultSet, row) ->
+                new OrderTransactionKey(resultSet.getString("order_id"), resultSet.getString("transaction_id"))));
+    }
+
+    @Override
+    public int markFailed(List<OrderTransactionKey> keys){
+        if(keys.isEmpty())
+            return 0;
+        var params = new MapSqlParameterSource()
+                .addValue("updatedAt", LocalDateTime.now())
+                .addValue("keys", keys
+                        .stream()
+                        .map(key -> new Object[]{key.orderId(), key.transactionId()})
+                        .toList());
+        return jdbcTemplate.update(MARK_FAILED_BY_KEYS, params);
+    }
+
+}
@@ -1,24 +1,38 @@
 package br.com.microservices.choreography.inventoryservice.core.service;
 
-import br.com.microservices.choreography.inventoryservice.config.exception.ValidationException;
-import br.com.microservices.choreography.inventoryservice.core.dto.Event;
-import br.com.microservices.choreography.inventoryservice.core.dto.History;
-import br.com.microservices.choreography.inventoryservice.core.dto.Order;
-import br.com.microservices.choreography.inventoryservice.core.dto.OrderProduct;
+import br.com.microservices.choreography.sagacore.config.exception.ValidationException;
+import br.com.microservices.choreography.sagacore.core.claimcheck.ClaimCheckResolver;
+import br.com.microservices.choreography.sagacore.core.dto.Event;
+import br.com.microservices.choreography.sagacore.core.dto.History;
+import br.com.microservices.choreography.sagacore.core.dto.OrderProduct;
+import br.com.microservices.choreography.sagacore.core.dto.OrderTransactionKey;
 import br.com.microservices.choreography.inventoryservice.core.model.Inventory;
 import br.com.microservices.choreography.inventoryservice.core.model.OrderInventory;
-import br.com.microservices.choreography.inventoryservice.core.producer.KafkaProducer;
+import br.com.microservices.choreography.sagacore.core.producer.KafkaProducer;
 import br.com.microservices.choreography.inventoryservice.core.repository.InventoryRepository;
 import br.com.microservices.choreography.inventoryservice.core.repository.OrderInventoryRepository;
-import br.com.microservices.choreography.inventoryservice.core.saga.SagaExecutionController;
-import br.com.microservices.choreography.inventoryservice.core.utils.JsonUtil;
+import br.com.microservices.choreography.sagacore.core.saga.SagaExecutionController;
+import br.com.microservices.choreography.sagacore.core.utils.JsonUtil;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-import static br.com.microservices.choreography.inventoryservice.core.enums.ESagaStatus.*;
+import static br.com.microservices.choreography.sagacore.core.enums.ESagaStatus.*;
+import static org.springframework.util.ObjectUtils.isEmpty;
 
 @Service
 @Slf4j
@@ -26,17 +40,25 @@ import static br.com.microservices.choreography.inventoryservice.core.enums.ESag
 public class InventoryService {
 
     private static final String CURRENT_SOURCE = "INVENTORY_SERVICE";
+    private static final String OUT_OF_STOCK_MESSAGE = "Product is out of stock.";
 
     private final SagaExecutionController sagaExecutionController;
     private final InventoryRepository inventoryRepository;
     private final OrderInventoryRepository orderInventoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ClaimCheckResolver claimCheckResolver;
 
     public void updateInventory(Event event){
+        claimCheckResolver.claimProducts(event);
         try{
-            checkCurrentValidation(event);
-            createOrderInventory(event);
-            updateInventory(event.getPayload());
+            if(!reserveInventoryIfAbsent(event)){
+                republishReservation(event);
+                return;
+            }
             handleSuccess(event);
+        }catch (TransientDataAccessException | DataAccessResourceFailureException e){
+            log.error("Transient database error trying to update inventory, sending to retry: ", e);
+            throw e;
         }catch (Exception e){
             log.error("Error trying to update inventory: ", e);
             handleFailCurrentNotExecuted(event, e.getMessage());
@@ -44,14 +66,161 @@ public class InventoryService {
         sagaExecutionController.handleSaga(event);
     }
 
-    private void createOrderInventory(Event event) {
-        event.getPayload().getProducts().forEach(product -> {
-            var inventory = findInventoryByProductCode(product.getProduct().getCode());
-            var orderInventory = createOrderInventory(event, product, inventory);
-            orderInventoryRepository.save(orderInventory);
+    private boolean reserveInventoryIfAbsent(Event event){
+        var orderInventories = createOrderInventories(event);
+        try{
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> reserveInventory(orderInventories)));
+        }catch (ValidationException e){
+            orderInventories.forEach(orderInventory -> {
+                orderInventory.setNewQuantity(orderInventory.getOldQuantity());
+                orderInventory.setRolledBack(true);
+            });
+            if(!orderInventoryRepository.insertIfAbsent(orderInventories))
+                return false;
+            throw e;
+        }
+    }
+
+    private boolean reserveInventory(List<OrderInventory> orderInventories) {
+        if(!orderInventoryRepository.insertIfAbsent(orderInventories))
+            return false;
+        reserve(orderInventories);
+        return true;
+    }
+
+    private void reserve(List<OrderInventory> orderInventories){
+        orderInventories.forEach(orderInventory -> {
+            if(inventoryRepository.reserve(orderInventory.getInventory().getProductCode(), orderInventory.getOrderQuantity()) == 0)
+                throw new ValidationException(OUT_OF_STOCK_MESSAGE);
         });
     }
 
+    private List<OrderInventory> createOrderInventories(Event event){
+        return createOrderInventories(event, this::findInventoryByProductCode);
+    }
+
+    private List<OrderInventory> createOrderInventories(Event event, Function<String, Inventory> inventories){
+        return mergeProductsByCode(event.getPayload().getProducts())
+                .stream()
+                .map(product -> createOrderInventory(event, product, inventories.apply(product.getProduct().getCode())))
+                .toList();
+    }
+
+    public void updateInventories(List<Event> events){
+        var claimed = claimCheckResolver.claimProducts(events, this::failUnclaimed);
+        var inventories = findInventoriesByProductCode(claimed);
+        var claims = new ArrayList<Event>(claimed.size());
+        var claimRows = new ArrayList<List<OrderInventory>>(claimed.size());
+        claimed.forEach(event -> {
+            try{
+                claimRows.add(createOrderInventories(event, code -> Optional.ofNullable(inventories.get(code))
+                        .orElseThrow(() -> new ValidationException("Inventory not found by informed product"))));
+                claims.add(event);
+            }catch (Exception e){
+                log.error("Error trying to replay inventory update: ", e);
+                handleFailCurrentNotExecuted(event, e.getMessage());
+                sagaExecutionController.handleSaga(event);
+            }
+        });
+        var outcomes = transactionTemplate.execute(status -> reserveAll(claimRows));
+        var duplicates = new ArrayList<Event>();
+        for (int index = 0, size = claims.size(); index < size; index++) {
+            var event = claims.get(index);
+            switch (outcomes.get(index)) {
+                case RESERVED -> handleSuccess(event);
+                case OUT_OF_STOCK -> handleFailCurrentNotExecuted(event, OUT_OF_STOCK_MESSAGE);
+                case DUPLICATE -> {
+                    duplicates.add(event);
+                    continue;
+                }
+            }
+            sagaExecutionController.handleSaga(event);
+        }
+        var stored = orderInventoryRepository
+                .findByTransactionIdIn(duplicates.stream().map(Event::getTransactionId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.groupingBy(orderInventory ->
+                        new OrderTransactionKey(orderInventory.getOrderId(), orderInventory.getTransactionId())));
+        duplicates.forEach(event -> republishReservation(event,
+                stored.getOrDefault(new OrderTransactionKey(event.getPayload().getId(), event.getTransactionId()), List.of())));
+        log.info("Replayed {} inventory updates, {} already stored", claims.size(), duplicates.size());
+    }
+
+    private void failUnclaimed(Event event, ValidationException e){
+        log.error("Error trying to claim order products: ", e);
+        handleFailCurrentNotExecuted(event, e.getMessage());
+        sagaExecutionController.handleSaga(event);
+    }
+
+    private List<Reservation> reserveAll(List<List<OrderInventory>> claimRows){
+        var inserted = orderInventoryRepository
+                .insertAllIfAbsent(claimRows.stream().flatMap(List::stream).toList());
+        var savepoint = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        savepoint.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+        var outcomes = new ArrayList<Reservation>(claimRows.size());
+        var outOfStock = new ArrayList<OrderTransactionKey>();
+        claimRows.forEach(orderInventories -> {
+            var key = new OrderTransactionKey(orderInventories.get(0).getOrderId(), orderInventories.get(0).getTransactionId());
+            if(!inserted.remove(key)){
+                outcomes.add(Reservation.DUPLICATE);
+                return;
+            }
+            try{
+                savepoint.executeWithoutResult(status -> reserve(orderInventories));
+                outcomes.add(Reservation.RESERVED);
+            }catch (ValidationException e){
+                outOfStock.add(key);
+                outcomes.add(Reservation.OUT_OF_STOCK);
+            }
+        });
+        orderInventoryRepository.markFailed(outOfStock);
+        return outcomes;
+    }
+
+    private Map<String, Inventory> findInventoriesByProductCode(List<Event> events){
+        var codes = events
+                .stream()
+                .filter(event -> !isEmpty(event.getPayload()) && !isEmpty(event.getPayload().getProducts()))
+                .flatMap(event -> event.getPayload().getProducts().stream())
+                .map(product -> product.getProduct().getCode())
+                .collect(Collectors.toSet());
+        return inventoryRepository
+                .findByProductCodeIn(codes)
+                .stream()
+                .collect(Collectors.toMap(Inventory::getProductCode, Function.identity()));
+    }
+
+    private void republishReservation(Event event){
+        republishReservation(event, findOrderInventories(event));
+    }
+
+    private void republishReservation(Event event, List<OrderInventory> stored){
+        if(stored.isEmpty())
+            throw new ValidationException("Reservation not found by orderId and transactionId");
+        if(stored.stream().allMatch(OrderInventory::isRolledBack)){
+            log.info("Ignoring redelivered reservation for transaction {} that already failed or was rolled back",
+                    event.getTransactionId());
+            return;
+        }
+        handleSuccess(event);
+        sagaExecutionController.handleSaga(event);
+    }
+
+    private List<OrderInventory> findOrderInventories(Event event){
+        return orderInventoryRepository.findByOrderIdAndTransactionId(event.getPayload().getId(), event.getTransactionId());
+    }
+
+    private Collection<OrderProduct> mergeProductsByCode(List<OrderProduct> products){
+        return products
+                .stream()
+                .collect(Collectors.toMap(
+                        product -> product.getProduct().getCode(),
+                        product -> new OrderProduct(product.getProduct(), product.getQuantity()),
+                        (first, second) -> new OrderProduct(first.getProduct(), first.getQuantity() + second.getQuantity()),
+                        LinkedHashMap::new))
+                .values();
+    }
+
     private OrderInventory createOrderInventory(Event event, OrderProduct orderProduct, Inventory inventory){
 
         return OrderInventory.builder()
@@ -70,27 +239,6 @@ public class InventoryService {
                 .orElseThrow( () -> new ValidationException("Inventory not found by informed product"));
     }
 
-    private void checkCurrentValidation(Event event) {
-        if (orderInventoryRepository.existsByOrderIdAndTransactionId(event.getOrderId(), event.getTransactionId()))
-            throw new ValidationException("There is another transactionId for this validation");
-    }
-
-    private void updateInventory(Order order){
-        order.getProducts().forEach( product -> {
-
-            var inventory = findInventoryByProductCode(product.getProduct().getCode());
-            checkInventory(inventory.getAvailable(), product.getQuantity());
-            inventory.setAvailable(inventory.getAvailable() - product.getQuantity());
-            inventoryRepository.save(inventory);
-        });
-
-    }
-
-    private void checkInventory(int available, int orderQuantity){
-        if(orderQuantity > available)
-            throw new ValidationException("Product is out of stock.");
-    }
-
     private void handleSuccess(Event event) {
 
         event.setStatus(SUCCESS);
@@ -116,27 +264,28 @@ public class InventoryService {
     }
 
     public void rollbackInventory(Event event){
-        event.setStatus(FAIL);
-        event.setSource(CURRENT_SOURCE);
-        try{
-            returnInventoryToPreviousValues(event);
+        rollbackInventories(List.of(event));
+    }
+
+    public void rollbackInventories(List<Event> events){
+        var keys = events
+                .stream()
+                .map(event -> new OrderTransactionKey(event.getPayload().getId(), event.getTransactionId()))
+                .toList();
+        var restored = inventoryRepository.restoreByOrderIdAndTransactionId(keys);
+        log.info("Restored {} inventory rows from {} rollback events", restored, events.size());
+        events.forEach(event -> {
+            event.setStatus(FAIL);
+            event.setSource(CURRENT_SOURCE);
             addHistory(event, "Rollback executed for inventory.");
-        }catch (ValidationException e){
-            addHistory(event, "Rollback not executed for inventory: ".concat(e.getMessage()));
-        }
-        sagaExecutionController.handleSaga(event);
+            sagaExecutionController.handleSaga(event);
+        });
     }
 
-    private void returnInventoryToPreviousValues(Event event) {
-        orderInventoryRepository
-                .findByOrderIdAndTransactionId(event.getPayload().getId(), event.getTransactionId())
-                .forEach(orderInventory -> {
-                    var inventory = orderInventory.getInventory();
-                    inventory.setAvailable(orderInventory.getOldQuantity());
-                    inventoryRepository.save(inventory);
-                    log.info("Restored inventory for order {} from {} to {}",
-                            event.getPayload().getId(), orderInventory.getNewQuantity(), inventory.getAvailable());
-                });
+    private enum Reservation {
+        RESERVED,
+        OUT_OF_STOCK,
+        DUPLICATE
     }
 
 }
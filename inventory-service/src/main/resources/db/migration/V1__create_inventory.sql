@@ -0,0 +1,26 @@
+CREATE SEQUENCE inventory_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE order_inventory_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE inventory (
+    id           INTEGER      NOT NULL PRIMARY KEY,
+    product_code VARCHAR(255) NOT NULL,
+    available    INTEGER      NOT NULL
+);
+
+CREATE UNIQUE INDEX uk_inventory_product_code ON inventory (product_code);
+
+CREATE TABLE order_inventory (
+    id             INTEGER      NOT NULL PRIMARY KEY,
+    inventory_id   INTEGER      NOT NULL REFERENCES inventory (id),
+    order_id       VARCHAR(255) NOT NULL,
+    transaction_id VARCHAR(255) NOT NULL,
+    order_quantity INTEGER      NOT NULL,
+    old_quantity   INTEGER      NOT NULL,
+    new_quantity   INTEGER      NOT NULL,
+    rolled_back    BOOLEAN      NOT NULL DEFAULT FALSE,
+    created_at     TIMESTAMP(6) NOT NULL,
+    updated_at     TIMESTAMP(6) NOT NULL
+);
+
+CREATE UNIQUE INDEX uk_order_inventory_order_transaction_inventory
+    ON order_inventory (order_id, transaction_id, inventory_id);
@@ -0,0 +1,4 @@
+INSERT INTO inventory (id, product_code, available) VALUES (nextval('inventory_seq'), 'COMIC_BOOKS', 4);
+INSERT INTO inventory (id, product_code, available) VALUES (nextval('inventory_seq'), 'BOOKS', 2);
+INSERT INTO inventory (id, product_code, available) VALUES (nextval('inventory_seq'), 'MOVIES', 5);
+INSERT INTO inventory (id, product_code, available) VALUES (nextval('inventory_seq'), 'MUSIC', 9);
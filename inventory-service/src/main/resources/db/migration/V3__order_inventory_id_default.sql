@@ -0,0 +1,2 @@
+ALTER SEQUENCE order_inventory_seq INCREMENT BY 1 OWNED BY order_inventory.id;
+ALTER TABLE order_inventory ALTER COLUMN id SET DEFAULT nextval('order_inventory_seq');
@@ -0,0 +1,277 @@
+package br.com.microservices.choreography.inventoryservice.core.service;
+
+import br.com.microservices.choreography.inventoryservice.core.repository.InventoryRepository;
+import br.com.microservices.choreography.sagacore.core.claimcheck.ClaimCheckResolver;
+import br.com.microservices.choreography.sagacore.core.dto.Event;
+import br.com.microservices.choreography.sagacore.core.dto.Order;
+import br.com.microservices.choreography.sagacore.core.dto.OrderProduct;
+import br.com.microservices.choreography.sagacore.core.dto.Product;
+import br.com.microservices.choreography.sagacore.core.saga.SagaExecutionController;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static br.com.microservices.choreography.sagacore.core.enums.ESagaStatus.FAIL;
+import static br.com.microservices.choreography.sagacore.core.enums.ESagaStatus.ROLLBACK_PENDING;
+import static br.com.microservices.choreography.sagacore.core.enums.ESagaStatus.SUCCESS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(InventoryService.class)
+class InventoryServiceConcurrencyTest {
+
+    private static final String PRODUCT_CODE = "COMIC_BOOKS";
+    private static final int AVAILABLE = 4;
+    private static final int THREADS = 32;
+    private static final int ROUNDS = 100;
+    private static final int INTERLEAVED_STOCK = 20;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @MockBean
+    private SagaExecutionController sagaExecutionController;
+
+    @MockBean
+    private ClaimCheckResolver claimCheckResolver;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void resetInventory(){
+        jdbcTemplate.update("DELETE FROM order_inventory");
+        jdbcTemplate.update("UPDATE inventory SET available = ? WHERE product_code = ?", AVAILABLE, PRODUCT_CODE);
+    }
+
+    @Test
+    void concurrentReservationsNeverOversellTheLastUnits() throws Exception {
+        var events = reserveConcurrently(THREADS, 1);
+
+        assertThat(events).filteredOn(event -> SUCCESS.equals(event.getStatus())).hasSize(AVAILABLE);
+        assertThat(events).filteredOn(event -> ROLLBACK_PENDING.equals(event.getStatus())).hasSize(THREADS - AVAILABLE);
+        assertThat(available()).isZero();
+        assertThat(countReservedOrderInventories()).isEqualTo(AVAILABLE);
+        assertThat(countOrderInventories()).isEqualTo(THREADS);
+    }
+
+    @Test
+    void concurrentMultiUnitReservationsKeepStockNonNegative() throws Exception {
+        var events = reserveConcurrently(THREADS, 3);
+
+        assertThat(events).filteredOn(event -> SUCCESS.equals(event.getStatus())).hasSize(AVAILABLE / 3);
+        assertThat(available()).isEqualTo(AVAILABLE % 3).isNotNegative();
+    }
+
+    @Test
+    void concurrentRedeliveriesReserveOnceAndRepublishSuccess() throws Exception {
+        var original = newEvent(1);
+        var executor = Executors.newFixedThreadPool(THREADS);
+        var start = new CountDownLatch(1);
+        var deliveries = new ArrayList<Future<Event>>();
+        for (var index = 0; index < THREADS; index++) {
+            var event = redeliveryOf(original);
+            deliveries.add(executor.submit(() -> {
+                start.await();
+                inventoryService.updateInventory(event);
+                return event;
+            }));
+        }
+        start.countDown();
+        var events = new ArrayList<Event>(THREADS);
+        for (var delivery : deliveries)
+            events.add(delivery.get());
+        executor.shutdown();
+
+        assertThat(events).allMatch(event -> SUCCESS.equals(event.getStatus()));
+        assertThat(available()).isEqualTo(AVAILABLE - 1);
+        assertThat(countOrderInventories()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentDuplicateRollbacksRestoreStockOnce() throws Exception {
+        var reserved = reserveConcurrently(AVAILABLE, 1);
+        assertThat(available()).isZero();
+
+        var executor = Executors.newFixedThreadPool(THREADS);
+        var start = new CountDownLatch(1);
+        var rollbacks = new ArrayList<Future<?>>();
+        for (var index = 0; index < THREADS; index++) {
+            var event = reserved.get(index % reserved.size());
+            rollbacks.add(executor.submit(() -> {
+                start.await();
+                inventoryService.rollbackInventory(rollbackOf(event));
+                return null;
+            }));
+        }
+        start.countDown();
+        for (var rollback : rollbacks)
+            rollback.get();
+        executor.shutdown();
+
+        assertThat(available()).isEqualTo(AVAILABLE);
+    }
+
+    @Test
+    void interleavedReservationsAndRollbacksKeepStockConsistentEveryRound() throws Exception {
+        jdbcTemplate.update("UPDATE inventory SET available = ? WHERE product_code = ?", INTERLEAVED_STOCK, PRODUCT_CODE);
+        var executor = Executors.newFixedThreadPool(THREADS);
+        var outstanding = new ArrayList<Event>();
+        try{
+            for (var round = 0; round < ROUNDS; round++) {
+                var reservations = new ArrayList<Event>(THREADS);
+                var tasks = new ArrayList<Callable<Void>>();
+                for (var index = 0; index < THREADS; index++) {
+                    var event = newEvent(1 + index % 3);
+                    reservations.add(event);
+                    tasks.add(() -> {
+                        inventoryService.updateInventory(event);
+                        return null;
+                    });
+                }
+                for (var event : outstanding) {
+                    for (var delivery = 0; delivery < 2; delivery++) {
+                        var rollback = rollbackOf(event);
+                        tasks.add(() -> {
+                            inventoryService.rollbackInventory(rollback);
+                            return null;
+                        });
+                    }
+                }
+                Collections.shuffle(tasks);
+                runTogether(executor, tasks);
+
+                assertThat(available()).isNotNegative();
+                assertThat(available() + reservedQuantity())
+                        .as("stock invariant after round %s", round)
+                        .isEqualTo(INTERLEAVED_STOCK);
+                outstanding = new ArrayList<>(reservations
+                        .stream()
+                        .filter(event -> SUCCESS.equals(event.getStatus()))
+                        .toList());
+            }
+        }finally {
+            executor.shutdown();
+        }
+    }
+
+    private void runTogether(ExecutorService executor, List<Callable<Void>> tasks) throws Exception {
+        var start = new CountDownLatch(1);
+        var futures = new ArrayList<Future<Void>>(tasks.size());
+        for (var task : tasks) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        start.countDown();
+        for (var future : futures)
+            future.get();
+    }
+
+    private List<Event> reserveConcurrently(int threads, int quantity) throws Exception {
+        var executor = Executors.newFixedThreadPool(threads);
+        var start = new CountDownLatch(1);
+        var reservations = new ArrayList<Future<Event>>();
+        for (var index = 0; index < threads; index++) {
+            var event = newEvent(quantity);
+            reservations.add(executor.submit(() -> {
+                start.await();
+                inventoryService.updateInventory(event);
+                return event;
+            }));
+        }
+        start.countDown();
+        var events = new ArrayList<Event>(threads);
+        for (var reservation : reservations)
+            events.add(reservation.get());
+        executor.shutdown();
+        return events;
+    }
+
+    private Event newEvent(int quantity){
+        var orderId = UUID.randomUUID().toString();
+        var order = Order
+                .builder()
+                .id(orderId)
+                .transactionId(UUID.randomUUID().toString())
+                .products(List.of(new OrderProduct(new Product(PRODUCT_CODE, 10.0), quantity)))
+                .build();
+        return Event
+                .builder()
+                .id(UUID.randomUUID().toString())
+                .orderId(orderId)
+                .transactionId(order.getTransactionId())
+                .payload(order)
+                .build();
+    }
+
+    private Event redeliveryOf(Event event){
+        return Event
+                .builder()
+                .id(event.getId())
+                .orderId(event.getOrderId())
+                .transactionId(event.getTransactionId())
+                .payload(event.getPayload())
+                .build();
+    }
+
+    private Event rollbackOf(Event event){
+        return Event
+                .builder()
+                .id(event.getId())
+                .orderId(event.getOrderId())
+                .transactionId(event.getTransactionId())
+                .payload(event.getPayload())
+                .status(FAIL)
+                .build();
+    }
+
+    private int available(){
+        return inventoryRepository.findByProductCode(PRODUCT_CODE).orElseThrow().getAvailable();
+    }
+
+    private int reservedQuantity(){
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(order_quantity), 0) FROM order_inventory WHERE rolled_back = false", Integer.class);
+    }
+
+    private int countReservedOrderInventories(){
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_inventory WHERE rolled_back = false", Integer.class);
+    }
+
+    private int countOrderInventories(){
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_inventory", Integer.class);
+    }
+
+}
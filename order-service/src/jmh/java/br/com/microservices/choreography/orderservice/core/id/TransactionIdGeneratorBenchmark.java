@@ -0,0 +1,43 @@
+package br.com.microservices.choreography.orderservice.core.id;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransactionIdGeneratorBenchmark {
+
+    private final TransactionIdGenerator snowflake = new SnowflakeTransactionIdGenerator("1");
+    private final TransactionIdGenerator uuid = new UuidTransactionIdGenerator();
+
+    @Benchmark
+    public String snowflake(){
+        return snowflake.nextId();
+    }
+
+    @Benchmark
+    public String uuid(){
+        return uuid.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String snowflakeContended(){
+        return snowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String uuidContended(){
+        return uuid.nextId();
+    }
+
+}
@@ -1,9 +1,29 @@
 package br.com.microservices.choreography.orderservice;
 
+import br.com.microservices.choreography.sagacore.config.exception.ExceptionGlobalHandler;
+import br.com.microservices.choreography.sagacore.config.kafka.KafkaConfig;
+import br.com.microservices.choreography.sagacore.config.kafka.KafkaRetryConfig;
+import br.com.microservices.choreography.sagacore.config.kafka.SagaKafkaProperties;
+import br.com.microservices.choreography.sagacore.config.transport.SagaTransportConfig;
+import br.com.microservices.choreography.sagacore.core.controller.DeadLetterController;
+import br.com.microservices.choreography.sagacore.core.controller.ProducerMetricsController;
+import br.com.microservices.choreography.sagacore.core.controller.SagaReplayController;
+import br.com.microservices.choreography.sagacore.core.producer.KafkaProducer;
+import br.com.microservices.choreography.sagacore.core.producer.ProducerMetrics;
+import br.com.microservices.choreography.sagacore.core.replay.SagaReplayService;
+import br.com.microservices.choreography.sagacore.core.service.DeadLetterService;
+import br.com.microservices.choreography.sagacore.core.utils.JsonUtil;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+@EnableScheduling
 @SpringBootApplication
+@Import({KafkaConfig.class, SagaKafkaProperties.class, KafkaRetryConfig.class, ExceptionGlobalHandler.class, SagaTransportConfig.class,
+		SagaReplayService.class, SagaReplayController.class,
+		KafkaProducer.class, ProducerMetrics.class, ProducerMetricsController.class,
+		DeadLetterService.class, DeadLetterController.class, JsonUtil.class})
 public class OrderServiceApplication {
 
 	public static void main(String[] args) {
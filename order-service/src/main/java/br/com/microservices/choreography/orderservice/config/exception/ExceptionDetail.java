@@ -1,4 +0,0 @@
-package br.com.microservices.choreography.orderservice.config.exception;
-
-public record ExceptionDetail(int status, String message) {
-}
@@ -0,0 +1,17 @@
+package br.com.microservices.choreography.orderservice.config.saga;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "saga.fan-in")
+public class SagaFanInProperties {
+
+    private Map<String, String> compensations = new LinkedHashMap<>();
+
+}
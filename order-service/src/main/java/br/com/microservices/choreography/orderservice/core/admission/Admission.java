@@ -0,0 +1,15 @@
+package br.com.microservices.choreography.orderservice.core.admission;
+
+import java.time.Duration;
+
+public record Admission(boolean admitted, Duration retryAfter, String reason) {
+
+    public static Admission admit(){
+        return new Admission(true, Duration.ZERO, null);
+    }
+
+    public static Admission reject(Duration retryAfter, String reason){
+        return new Admission(false, retryAfter, reason);
+    }
+
+}
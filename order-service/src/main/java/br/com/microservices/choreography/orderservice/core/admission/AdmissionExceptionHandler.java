@@ -0,0 +1,33 @@
+package br.com.microservices.choreography.orderservice.core.admission;
+
+import br.com.microservices.choreography.sagacore.config.exception.ExceptionDetail;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+@Slf4j
+@ControllerAdvice
+@ConditionalOnProperty(name = "order.admission.enabled", havingValue = "true")
+public class AdmissionExceptionHandler {
+
+    private static final long MILLIS_PER_SECOND = 1000L;
+
+    @ExceptionHandler(AdmissionRejectedException.class)
+    public ResponseEntity<?> handleAdmissionRejected(AdmissionRejectedException exception){
+        var admission = exception.getAdmission();
+        var retryAfterSeconds = Math.max(1L,
+                (admission.retryAfter().toMillis() + MILLIS_PER_SECOND - 1) / MILLIS_PER_SECOND);
+        log.info("Order rejected for client {}: {} Retry after {}s",
+                exception.getClientId(), admission.reason(), retryAfterSeconds);
+        var detail = new ExceptionDetail(HttpStatus.TOO_MANY_REQUESTS.value(), admission.reason());
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(detail);
+    }
+
+}
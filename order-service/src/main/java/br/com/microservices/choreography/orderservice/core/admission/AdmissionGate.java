@@ -0,0 +1,76 @@
+package br.com.microservices.choreography.orderservice.core.admission;
+
+import br.com.microservices.choreography.sagacore.config.exception.ValidationException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@ConditionalOnProperty(name = "order.admission.enabled", havingValue = "true")
+public class AdmissionGate {
+
+    private final PipelineLagMonitor lagMonitor;
+    private final TokenBucket globalBucket;
+    private final ConcurrentHashMap<String, TokenBucket> clientBuckets = new ConcurrentHashMap<>();
+    private final double clientRatePerSecond;
+    private final int clientBurst;
+    private final int maxPermits;
+    private final long maxLag;
+    private final Duration lagRetryAfter;
+
+    public AdmissionGate(PipelineLagMonitor lagMonitor,
+                         @Value("${order.admission.rate-per-second}") double ratePerSecond,
+                         @Value("${order.admission.burst}") int burst,
+                         @Value("${order.admission.client-rate-per-second}") double clientRatePerSecond,
+                         @Value("${order.admission.client-burst}") int clientBurst,
+                         @Value("${order.admission.max-lag}") long maxLag,
+                         @Value("${order.admission.lag-check-interval}") Duration lagRetryAfter){
+        this.lagMonitor = lagMonitor;
+        this.globalBucket = new TokenBucket(ratePerSecond, burst);
+        this.clientRatePerSecond = clientRatePerSecond;
+        this.clientBurst = clientBurst;
+        this.maxPermits = Math.min(burst, clientBurst);
+        this.maxLag = maxLag;
+        this.lagRetryAfter = lagRetryAfter;
+    }
+
+    public void admit(HttpServletRequest request, int orders){
+        var clientId = request.getRemoteAddr();
+        var admission = tryAdmit(clientId, orders);
+        if(!admission.admitted())
+            throw new AdmissionRejectedException(clientId, admission);
+    }
+
+    public Admission tryAdmit(String clientId, int orders){
+        var permits = Math.max(orders, 1);
+        if(permits > maxPermits)
+            throw new ValidationException(String.format(
+                    "Batch of %s orders exceeds the admission burst of %s orders.", permits, maxPermits));
+        if(lagMonitor.currentLag() > maxLag)
+            return Admission.reject(lagRetryAfter, "Saga pipeline is saturated.");
+        var now = System.nanoTime();
+        var clientBucket = clientBuckets
+                .computeIfAbsent(clientId, id -> new TokenBucket(clientRatePerSecond, clientBurst));
+        var clientWait = clientBucket.tryAcquire(now, permits);
+        if(clientWait > 0)
+            return Admission.reject(Duration.ofNanos(clientWait), "Client quota exceeded.");
+        var globalWait = globalBucket.tryAcquire(now, permits);
+        if(globalWait > 0){
+            clientBucket.release(permits);
+            return Admission.reject(Duration.ofNanos(globalWait), "Order intake rate exceeded.");
+        }
+        return Admission.admit();
+    }
+
+    @Scheduled(fixedDelayString = "${order.admission.client-eviction-interval}")
+    public void evictIdleClients(){
+        var now = System.nanoTime();
+        clientBuckets.values().removeIf(bucket -> bucket.isIdle(now));
+    }
+
+}
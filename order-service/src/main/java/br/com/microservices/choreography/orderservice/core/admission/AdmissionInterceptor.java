@@ -0,0 +1,25 @@
+package br.com.microservices.choreography.orderservice.core.admission;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@Component
+@ConditionalOnProperty(name = "order.admission.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class AdmissionInterceptor implements HandlerInterceptor {
+
+    private final AdmissionGate admissionGate;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler){
+        if(HttpMethod.POST.matches(request.getMethod()))
+            admissionGate.admit(request, 1);
+        return true;
+    }
+
+}
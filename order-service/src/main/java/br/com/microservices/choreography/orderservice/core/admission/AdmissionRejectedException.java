@@ -0,0 +1,17 @@
+package br.com.microservices.choreography.orderservice.core.admission;
+
+import lombok.Getter;
+
+@Getter
+public class AdmissionRejectedException extends RuntimeException {
+
+    private final String clientId;
+    private final Admission admission;
+
+    public AdmissionRejectedException(String clientId, Admission admission){
+        super(admission.reason());
+        this.clientId = clientId;
+        this.admission = admission;
+    }
+
+}
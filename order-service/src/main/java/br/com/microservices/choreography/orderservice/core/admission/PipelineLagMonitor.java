@@ -0,0 +1,91 @@
+package br.com.microservices.choreography.orderservice.core.admission;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "order.admission.enabled", havingValue = "true")
+public class PipelineLagMonitor {
+
+    private static final long ADMIN_TIMEOUT_SECONDS = 5L;
+
+    private final AdminClient adminClient;
+    private final String groupId;
+    private final String topic;
+    private final long maxAgeNanos;
+    private volatile long lag;
+    private volatile long refreshedAt = System.nanoTime();
+
+    public PipelineLagMonitor(KafkaAdmin kafkaAdmin,
+                              @Value("${order.admission.lag-group-id}") String groupId,
+                              @Value("${spring.kafka.topic.product-validation-start}") String topic,
+                              @Value("${order.admission.lag-max-age}") Duration maxAge){
+        this.adminClient = AdminClient.create(kafkaAdmin.getConfigurationProperties());
+        this.groupId = groupId;
+        this.topic = topic;
+        this.maxAgeNanos = maxAge.toNanos();
+    }
+
+    public long currentLag(){
+        if(System.nanoTime() - refreshedAt > maxAgeNanos)
+            return Long.MAX_VALUE;
+        return lag;
+    }
+
+    @Scheduled(fixedDelayString = "${order.admission.lag-check-interval}")
+    public void refreshLag(){
+        try{
+            var committed = adminClient
+                    .listConsumerGroupOffsets(groupId)
+                    .partitionsToOffsetAndMetadata()
+                    .get(ADMIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            var latestRequest = new HashMap<TopicPartition, OffsetSpec>();
+            committed.keySet().stream()
+                    .filter(partition -> topic.equals(partition.topic()))
+                    .forEach(partition -> latestRequest.put(partition, OffsetSpec.latest()));
+            if(latestRequest.isEmpty()){
+                updateLag(0L);
+                return;
+            }
+            var latest = adminClient
+                    .listOffsets(latestRequest)
+                    .all()
+                    .get(ADMIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            var totalLag = 0L;
+            for (var entry : latest.entrySet()) {
+                var offset = committed.get(entry.getKey());
+                if(offset != null)
+                    totalLag += Math.max(0L, entry.getValue().offset() - offset.offset());
+            }
+            updateLag(totalLag);
+        }catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+        }catch (Exception e){
+            log.warn("Error trying to read consumer lag of group {}: {}", groupId, e.getMessage());
+        }
+    }
+
+    private void updateLag(long currentLag){
+        lag = currentLag;
+        refreshedAt = System.nanoTime();
+    }
+
+    @PreDestroy
+    public void shutdown(){
+        adminClient.close();
+    }
+
+}
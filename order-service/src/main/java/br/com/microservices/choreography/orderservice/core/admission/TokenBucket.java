@@ -0,0 +1,40 @@
+package br.com.microservices.choreography.orderservice.core.admission;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TokenBucket {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    public TokenBucket(double ratePerSecond, int burst){
+        this.emissionIntervalNanos = (long) (NANOS_PER_SECOND / ratePerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * Math.max(burst, 1);
+    }
+
+    public long tryAcquire(long nowNanos, int permits){
+        while(true){
+            var current = theoreticalArrival.get();
+            var base = current == Long.MIN_VALUE || current < nowNanos ? nowNanos : current;
+            var next = base + emissionIntervalNanos * permits;
+            var waitNanos = next - nowNanos - burstToleranceNanos;
+            if(waitNanos > 0)
+                return waitNanos;
+            if(theoreticalArrival.compareAndSet(current, next))
+                return 0L;
+        }
+    }
+
+    public void release(int permits){
+        theoreticalArrival.addAndGet(-emissionIntervalNanos * permits);
+    }
+
+    public boolean isIdle(long nowNanos){
+        var current = theoreticalArrival.get();
+        return current == Long.MIN_VALUE || current <= nowNanos;
+    }
+
+}
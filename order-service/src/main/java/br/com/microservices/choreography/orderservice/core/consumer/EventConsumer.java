@@ -1,7 +1,9 @@
 package br.com.microservices.choreography.orderservice.core.consumer;
 
+import br.com.microservices.choreography.orderservice.core.document.Event;
 import br.com.microservices.choreography.orderservice.core.service.EventService;
-import br.com.microservices.choreography.orderservice.core.utils.JsonUtil;
+import br.com.microservices.choreography.orderservice.core.service.SagaFanInService;
+import br.com.microservices.choreography.sagacore.core.utils.JsonUtil;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -14,6 +16,7 @@ public class EventConsumer {
 
     private final JsonUtil jsonUtil;
     private final EventService eventService;
+    private final SagaFanInService sagaFanInService;
 
     @KafkaListener(
         groupId = "${spring.kafka.consumer.group-id}",
@@ -21,8 +24,18 @@ public class EventConsumer {
     public void consumeNotifyEndingEvent(String payload){
         log.info("Receiving ending notification event {} from notify-ending topic",
                 payload);
-        var event = jsonUtil.toEvent(payload);
+        var event = jsonUtil.toEvent(payload, Event.class);
         eventService.notifyEnding(event);
     }
 
+    @KafkaListener(
+        groupId = "${spring.kafka.consumer.group-id}",
+        topics = "${spring.kafka.topic.saga-fan-in}")
+    public void consumeFanInEvent(String payload){
+        log.info("Receiving parallel branch event {} from saga-fan-in topic",
+                payload);
+        var event = jsonUtil.toEvent(payload, Event.class);
+        sagaFanInService.join(event);
+    }
+
 }
@@ -0,0 +1,34 @@
+package br.com.microservices.choreography.orderservice.core.consumer;
+
+import br.com.microservices.choreography.orderservice.core.document.Event;
+import br.com.microservices.choreography.orderservice.core.service.EventService;
+import br.com.microservices.choreography.sagacore.core.utils.JsonUtil;
+import br.com.microservices.choreography.sagacore.core.replay.ReplayPayloads;
+import br.com.microservices.choreography.sagacore.core.replay.SagaReplayHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class EventReplayHandler implements SagaReplayHandler {
+
+    private final JsonUtil jsonUtil;
+    private final EventService eventService;
+
+    @Value("${spring.kafka.topic.notify-ending}")
+    private String notifyEndingTopic;
+
+    @Override
+    public boolean supports(String topic){
+        return notifyEndingTopic.equals(topic);
+    }
+
+    @Override
+    public void replay(String topic, List<String> payloads){
+        ReplayPayloads.parse(topic, payloads, json -> jsonUtil.toEvent(json, Event.class)).forEach(eventService::notifyEnding);
+    }
+
+}
@@ -0,0 +1,23 @@
+package br.com.microservices.choreography.orderservice.core.controller;
+
+import br.com.microservices.choreography.orderservice.core.service.ClaimCheckService;
+import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/claim-check")
+public class ClaimCheckController {
+
+    private final ClaimCheckService claimCheckService;
+
+    @GetMapping(value = "/{reference}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public String findContent(@PathVariable String reference){
+        return claimCheckService.findContent(reference);
+    }
+
+}
@@ -1,24 +1,51 @@
 package br.com.microservices.choreography.orderservice.core.controller;
 
-import br.com.microservices.choreography.orderservice.core.document.Order;
+import br.com.microservices.choreography.orderservice.core.admission.AdmissionGate;
+import br.com.microservices.choreography.sagacore.core.dto.Order;
+import br.com.microservices.choreography.orderservice.core.dto.OrderBatchResult;
 import br.com.microservices.choreography.orderservice.core.dto.OrderRequest;
 import br.com.microservices.choreography.orderservice.core.service.OrderService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+
 @RestController
 @AllArgsConstructor
 @RequestMapping("/api/order")
 public class OrderController {
 
     private final OrderService orderService;
+    private final Optional<AdmissionGate> admissionGate;
 
     @PostMapping
     public Order createOrder(@RequestBody OrderRequest request){
         return orderService.createOrder(request);
     }
 
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public List<OrderBatchResult> createOrders(@RequestBody List<OrderRequest> requests, HttpServletRequest request){
+        admitBatch(request, requests);
+        return orderService.createOrders(requests);
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public List<OrderBatchResult> createOrdersFromNdjson(InputStream body, HttpServletRequest request){
+        var requests = orderService.readOrderRequests(body);
+        admitBatch(request, requests);
+        return orderService.createOrders(requests);
+    }
+
+    private void admitBatch(HttpServletRequest request, List<OrderRequest> requests){
+        if(requests != null)
+            admissionGate.ifPresent(gate -> gate.admit(request, requests.size()));
+    }
+
 }
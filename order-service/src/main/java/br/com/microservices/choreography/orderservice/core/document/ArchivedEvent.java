@@ -0,0 +1,82 @@
+package br.com.microservices.choreography.orderservice.core.document;
+
+import br.com.microservices.choreography.sagacore.core.dto.History;
+import br.com.microservices.choreography.sagacore.core.dto.Order;
+import br.com.microservices.choreography.sagacore.core.enums.ESagaStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "event_archive")
+public class ArchivedEvent {
+
+    @Id
+    private String id;
+    @Indexed
+    private String transactionId;
+    @Indexed
+    private String orderId;
+    private String source;
+    private ESagaStatus status;
+    private Double totalAmount;
+    private Integer totalItems;
+    private List<History> eventHistory;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+    private LocalDateTime archivedAt;
+
+    public static ArchivedEvent of(Event event, LocalDateTime archivedAt){
+        var payload = event.getPayload();
+        return ArchivedEvent
+                .builder()
+                .id(event.getId())
+                .transactionId(event.getTransactionId())
+                .orderId(event.getOrderId())
+                .source(event.getSource())
+                .status(event.getStatus())
+                .totalAmount(payload == null ? null : payload.getTotalAmount())
+                .totalItems(payload == null ? null : payload.getTotalItems())
+                .eventHistory(event.getEventHistory())
+                .createdAt(event.getCreatedAt())
+                .finishedAt(event.getFinishedAt())
+                .archivedAt(archivedAt)
+                .build();
+    }
+
+    public Event toEvent(){
+        return Event
+                .builder()
+                .id(id)
+                .transactionId(transactionId)
+                .orderId(orderId)
+                .source(source)
+                .status(status)
+                .payload(toPayload())
+                .eventHistory(eventHistory)
+                .createdAt(createdAt)
+                .finishedAt(finishedAt)
+                .build();
+    }
+
+    private Order toPayload(){
+        return Order
+                .builder()
+                .id(orderId)
+                .transactionId(transactionId)
+                .totalAmount(totalAmount == null ? 0.0 : totalAmount)
+                .totalItems(totalItems == null ? 0 : totalItems)
+                .build();
+    }
+
+}
@@ -5,24 +5,23 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Document(collection = "order")
-public class Order {
+@Document(collection = "claim_check")
+public class ClaimedPayload {
 
     @Id
-    private String id;
-    private List<OrderProduct> products;
+    private String reference;
+    private String content;
+    private String hash;
+    @Indexed(expireAfter = "7d")
     private LocalDateTime createdAt;
-    private String transactionId;
-    private double totalAmount;
-    private int totalItems;
 
 }
@@ -1,11 +1,15 @@
 package br.com.microservices.choreography.orderservice.core.document;
 
-import br.com.microservices.choreography.orderservice.core.enums.ESagaStatus;
+import br.com.microservices.choreography.sagacore.core.dto.ClaimCheck;
+import br.com.microservices.choreography.sagacore.core.dto.History;
+import br.com.microservices.choreography.sagacore.core.dto.Order;
+import br.com.microservices.choreography.sagacore.core.enums.ESagaStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -17,8 +21,9 @@ import static org.springframework.util.CollectionUtils.isEmpty;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @Document(collection = "event")
+@CompoundIndex(name = "pending_saga_idx", def = "{'finishedAt': 1, 'status': 1, 'createdAt': 1}")
 public class Event {
 
     @Id
@@ -26,10 +31,12 @@ public class Event {
     private String transactionId;
     private String orderId;
     private Order payload;
+    private ClaimCheck claimCheck;
     private String source;
     private ESagaStatus status;
     private List<History> eventHistory;
     private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
 
     public void addToHistory(History history){
         if(isEmpty(eventHistory))
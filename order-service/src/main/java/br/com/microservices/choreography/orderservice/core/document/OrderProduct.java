@@ -1,14 +0,0 @@
-package br.com.microservices.choreography.orderservice.core.document;
-
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-public class OrderProduct {
-
-    private Product product;
-    private int quantity;
-}
@@ -1,15 +0,0 @@
-package br.com.microservices.choreography.orderservice.core.document;
-
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-public class Product {
-
-    private String code;
-    private double unitValue;
-
-}
@@ -0,0 +1,33 @@
+package br.com.microservices.choreography.orderservice.core.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "saga_join")
+public class SagaJoin {
+
+    @Id
+    private String transactionId;
+    @Builder.Default
+    private Map<String, Event> branches = new LinkedHashMap<>();
+    @Builder.Default
+    private Set<String> decisions = new LinkedHashSet<>();
+    @Indexed(expireAfter = "7d")
+    private LocalDateTime createdAt;
+
+}
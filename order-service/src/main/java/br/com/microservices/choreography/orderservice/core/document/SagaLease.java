@@ -0,0 +1,25 @@
+package br.com.microservices.choreography.orderservice.core.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "saga_lease")
+public class SagaLease {
+
+    @Id
+    private String name;
+    private String owner;
+    private LocalDateTime expiresAt;
+    private LocalDateTime cursor;
+
+}
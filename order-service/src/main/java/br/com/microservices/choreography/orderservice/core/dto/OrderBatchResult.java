@@ -1,22 +1,21 @@
-package br.com.microservices.choreography.orderservice.core.document;
+package br.com.microservices.choreography.orderservice.core.dto;
 
-import br.com.microservices.choreography.orderservice.core.enums.ESagaStatus;
+import br.com.microservices.choreography.orderservice.core.enums.EOrderIntakeStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.time.LocalDateTime;
-
 @Data
+@Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
-public class History {
+public class OrderBatchResult {
 
-    private String source;
-    private ESagaStatus status;
+    private int index;
+    private String orderId;
+    private String transactionId;
+    private EOrderIntakeStatus status;
     private String message;
-    private LocalDateTime createdAt;
 
 }
@@ -1,6 +1,7 @@
 package br.com.microservices.choreography.orderservice.core.dto;
 
-import br.com.microservices.choreography.orderservice.core.document.OrderProduct;
+import br.com.microservices.choreography.sagacore.core.dto.OrderProduct;
+import br.com.microservices.choreography.sagacore.core.enums.EOrderPriority;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -13,5 +14,6 @@ import java.util.List;
 public class OrderRequest {
 
     private List<OrderProduct> products;
+    private EOrderPriority priority;
 
 }
@@ -0,0 +1,9 @@
+package br.com.microservices.choreography.orderservice.core.enums;
+
+public enum EOrderIntakeStatus {
+
+    ACCEPTED,
+    REJECTED,
+    PUBLISH_FAILED;
+
+}
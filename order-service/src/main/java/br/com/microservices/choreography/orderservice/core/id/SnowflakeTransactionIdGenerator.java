@@ -0,0 +1,85 @@
+package br.com.microservices.choreography.orderservice.core.id;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@ConditionalOnProperty(name = "order.transaction-id.generator", havingValue = "snowflake")
+public class SnowflakeTransactionIdGenerator implements TransactionIdGenerator {
+
+    private static final long EPOCH_MILLIS = 1704067200000L;
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int ENCODED_LENGTH = 13;
+    private static final int ENCODING_BITS = 5;
+    private static final int ENCODING_MASK = 0x1F;
+    private static final char[] ENCODING = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int[] DECODING = new int[128];
+
+    static {
+        Arrays.fill(DECODING, -1);
+        for (int position = 0; position < ENCODING.length; position++) {
+            DECODING[ENCODING[position]] = position;
+        }
+    }
+
+    private final long nodeId;
+    private final AtomicLong state = new AtomicLong();
+
+    public SnowflakeTransactionIdGenerator(@Value("${order.transaction-id.node-id:}") String nodeId){
+        if(nodeId == null || nodeId.isBlank())
+            throw new IllegalArgumentException("The snowflake transaction id generator needs a node id per replica, set ORDER_NODE_ID.");
+        this.nodeId = Long.parseLong(nodeId.trim());
+        if(this.nodeId < 0 || this.nodeId > MAX_NODE_ID)
+            throw new IllegalArgumentException(String.format("Transaction id node id must be between 0 and %s.", MAX_NODE_ID));
+    }
+
+    @Override
+    public String nextId(){
+        return encode(nextValue());
+    }
+
+    public long nextValue(){
+        while(true){
+            var current = state.get();
+            var timestamp = System.currentTimeMillis() - EPOCH_MILLIS;
+            var next = timestamp > current >>> SEQUENCE_BITS
+                    ? timestamp << SEQUENCE_BITS
+                    : current + 1;
+            if(state.compareAndSet(current, next))
+                return (next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS)
+                        | nodeId << SEQUENCE_BITS
+                        | next & SEQUENCE_MASK;
+        }
+    }
+
+    public static String encode(long value){
+        var chars = new char[ENCODED_LENGTH];
+        for (int index = ENCODED_LENGTH - 1; index >= 0; index--) {
+            chars[index] = ENCODING[(int) (value & ENCODING_MASK)];
+            value >>>= ENCODING_BITS;
+        }
+        return new String(chars);
+    }
+
+    public static long decode(String id){
+        if(id == null || id.length() != ENCODED_LENGTH)
+            throw new IllegalArgumentException("Invalid transaction id: ".concat(String.valueOf(id)));
+        var value = 0L;
+        for (int index = 0; index < ENCODED_LENGTH; index++) {
+            var character = id.charAt(index);
+            var digit = character < DECODING.length ? DECODING[character] : -1;
+            if(digit < 0)
+                throw new IllegalArgumentException("Invalid transaction id: ".concat(id));
+            value = value << ENCODING_BITS | digit;
+        }
+        return value;
+    }
+
+}
@@ -0,0 +1,7 @@
+package br.com.microservices.choreography.orderservice.core.id;
+
+public interface TransactionIdGenerator {
+
+    String nextId();
+
+}
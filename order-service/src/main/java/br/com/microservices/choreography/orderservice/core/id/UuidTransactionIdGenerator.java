@@ -0,0 +1,20 @@
+package br.com.microservices.choreography.orderservice.core.id;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Component
+@ConditionalOnProperty(name = "order.transaction-id.generator", havingValue = "uuid", matchIfMissing = true)
+public class UuidTransactionIdGenerator implements TransactionIdGenerator {
+
+    private static final String TRANSACTION_ID_PATTERN = "%s_%s";
+
+    @Override
+    public String nextId(){
+        return String.format(TRANSACTION_ID_PATTERN, Instant.now().toEpochMilli(), UUID.randomUUID());
+    }
+
+}
@@ -1,29 +1,67 @@
 package br.com.microservices.choreography.orderservice.core.producer;
 
+import br.com.microservices.choreography.sagacore.core.enums.EOrderPriority;
+import br.com.microservices.choreography.sagacore.core.transport.SagaTransport;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class SagaProducer {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final SagaTransport transport;
     @Value("${spring.kafka.topic.product-validation-start}")
     private String productValidationStartTopic;
+    @Value("${saga.priority-lanes.enabled}")
+    private boolean priorityLanesEnabled;
+    @Value("${saga.priority-lanes.suffix}")
+    private String priorityLaneSuffix;
+
+    public void sendEvent(String payload, String orderId, EOrderPriority priority){
+        sendEvent(payload, orderId, startTopic(priority));
+    }
+
+    private String startTopic(EOrderPriority priority){
+        return priorityLanesEnabled && EOrderPriority.PREMIUM.equals(priority)
+                ? productValidationStartTopic.concat(priorityLaneSuffix)
+                : productValidationStartTopic;
+    }
 
-    public void sendEvent(String payload){
+    public void sendEvent(String payload, String orderId, String topic){
         try{
 
-            log.info("Sending event to topic {} with data {}", productValidationStartTopic, payload);
-            kafkaTemplate.send(productValidationStartTopic, payload);
+            log.info("Sending event to topic {} with data {}", topic, payload);
+            transport.send(topic, orderId, payload);
         }catch (Exception e){
             log.error("Error trying to send data to topic {} with data {}",
-                    productValidationStartTopic, payload);
+                    topic, payload);
+        }
+    }
+
+    public List<CompletableFuture<?>> sendEvents(List<String> payloads, List<String> orderIds,
+                                                 List<EOrderPriority> priorities){
+        log.info("Sending {} events to topic {}", payloads.size(), productValidationStartTopic);
+        var sends = new ArrayList<CompletableFuture<?>>(payloads.size());
+        for (int index = 0, size = payloads.size(); index < size; index++) {
+            var payload = payloads.get(index);
+            var topic = startTopic(priorities.get(index));
+            try{
+                sends.add(transport.send(topic, orderIds.get(index), payload));
+            }catch (Exception e){
+                log.error("Error trying to send data to topic {} with data {}",
+                        topic, payload);
+                sends.add(CompletableFuture.failedFuture(e));
+            }
         }
+        transport.flush();
+        return sends;
     }
 
 }
@@ -1,16 +1,27 @@
 package br.com.microservices.choreography.orderservice.core.repository;
 
 import br.com.microservices.choreography.orderservice.core.document.Event;
+import br.com.microservices.choreography.sagacore.core.enums.ESagaStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-public interface EventRepository extends MongoRepository<Event, String> {
+public interface EventRepository extends MongoRepository<Event, String>, EventStateRepository {
 
     List<Event> findAllByOrderByCreatedAtDesc();
 
     Optional<Event> findTop1ByOrderIdOrderByCreatedAtDesc(String orderId);
 
     Optional<Event> findTop1ByTransactionIdOrderByCreatedAtDesc(String orderId);
+
+    @Query("{ 'finishedAt': null, 'status': 'SUCCESS', 'createdAt': { $gte: ?0, $lt: ?1 } }")
+    List<Event> findPendingSagas(LocalDateTime from, LocalDateTime to, Pageable pageable);
+
+    Optional<Event> findTop1ByFinishedAtIsNullAndStatusOrderByCreatedAtAsc(ESagaStatus status);
+
+    List<Event> findByFinishedAtBefore(LocalDateTime limit, Pageable pageable);
 }
@@ -0,0 +1,14 @@
+package br.com.microservices.choreography.orderservice.core.repository;
+
+import br.com.microservices.choreography.orderservice.core.document.Event;
+import br.com.microservices.choreography.sagacore.core.dto.History;
+
+import java.util.List;
+
+public interface EventStateRepository {
+
+    boolean updateSagaState(Event event, List<History> appendedHistory);
+
+    boolean markTimedOut(Event event, History timeoutHistory);
+
+}
@@ -0,0 +1,54 @@
+package br.com.microservices.choreography.orderservice.core.repository;
+
+import br.com.microservices.choreography.orderservice.core.document.Event;
+import br.com.microservices.choreography.sagacore.core.dto.History;
+import br.com.microservices.choreography.sagacore.core.enums.ESagaStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+@RequiredArgsConstructor
+public class EventStateRepositoryImpl implements EventStateRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public boolean updateSagaState(Event event, List<History> appendedHistory){
+        if(isEmpty(event.getId()))
+            return false;
+        var update = new Update()
+                .set("source", event.getSource())
+                .set("status", event.getStatus())
+                .set("createdAt", event.getCreatedAt())
+                .set("finishedAt", event.getFinishedAt());
+        if(!isEmpty(event.getPayload())){
+            update
+                    .set("payload.totalAmount", event.getPayload().getTotalAmount())
+                    .set("payload.totalItems", event.getPayload().getTotalItems());
+        }
+        if(!isEmpty(appendedHistory))
+            update.addToSet("eventHistory").each(appendedHistory.toArray());
+        var query = Query.query(Criteria.where("id").is(event.getId()));
+        return mongoTemplate.updateFirst(query, update, Event.class).getMatchedCount() > 0;
+    }
+
+    @Override
+    public boolean markTimedOut(Event event, History timeoutHistory){
+        var update = new Update()
+                .set("source", event.getSource())
+                .set("status", event.getStatus())
+                .addToSet("eventHistory", timeoutHistory);
+        var query = Query.query(Criteria
+                .where("id").is(event.getId())
+                .and("finishedAt").is(null)
+                .and("status").is(ESagaStatus.SUCCESS));
+        return mongoTemplate.updateFirst(query, update, Event.class).getMatchedCount() > 0;
+    }
+
+}
@@ -1,6 +1,6 @@
 package br.com.microservices.choreography.orderservice.core.repository;
 
-import br.com.microservices.choreography.orderservice.core.document.Order;
+import br.com.microservices.choreography.sagacore.core.dto.Order;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 public interface OrderRepository extends MongoRepository<Order, String> {
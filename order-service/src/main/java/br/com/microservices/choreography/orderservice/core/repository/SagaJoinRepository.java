@@ -0,0 +1,8 @@
+package br.com.microservices.choreography.orderservice.core.repository;
+
+import br.com.microservices.choreography.orderservice.core.document.SagaJoin;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface SagaJoinRepository extends MongoRepository<SagaJoin, String>, SagaJoinStateRepository {
+
+}
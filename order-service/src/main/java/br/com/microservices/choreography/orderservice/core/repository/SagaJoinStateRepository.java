@@ -0,0 +1,12 @@
+package br.com.microservices.choreography.orderservice.core.repository;
+
+import br.com.microservices.choreography.orderservice.core.document.Event;
+import br.com.microservices.choreography.orderservice.core.document.SagaJoin;
+
+public interface SagaJoinStateRepository {
+
+    SagaJoin mergeBranch(Event event);
+
+    boolean markDecided(String transactionId, String decision);
+
+}
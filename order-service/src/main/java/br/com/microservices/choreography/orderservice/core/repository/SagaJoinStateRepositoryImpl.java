@@ -0,0 +1,45 @@
+package br.com.microservices.choreography.orderservice.core.repository;
+
+import br.com.microservices.choreography.orderservice.core.document.Event;
+import br.com.microservices.choreography.orderservice.core.document.SagaJoin;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+public class SagaJoinStateRepositoryImpl implements SagaJoinStateRepository {
+
+    private static final String BRANCHES_FIELD = "branches.";
+    private static final String DECISIONS_FIELD = "decisions";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public SagaJoin mergeBranch(Event event){
+        var query = Query.query(Criteria.where("transactionId").is(event.getTransactionId()));
+        var update = new Update()
+                .set(BRANCHES_FIELD.concat(event.getSource()), event)
+                .setOnInsert("createdAt", LocalDateTime.now());
+        var options = FindAndModifyOptions.options().upsert(true).returnNew(true);
+        try{
+            return mongoTemplate.findAndModify(query, update, options, SagaJoin.class);
+        }catch (DuplicateKeyException ex){
+            return mongoTemplate.findAndModify(query, update, options, SagaJoin.class);
+        }
+    }
+
+    @Override
+    public boolean markDecided(String transactionId, String decision){
+        var query = Query.query(Criteria.where("transactionId").is(transactionId).and(DECISIONS_FIELD).ne(decision));
+        return mongoTemplate
+                .updateFirst(query, new Update().addToSet(DECISIONS_FIELD, decision), SagaJoin.class)
+                .getModifiedCount() > 0;
+    }
+
+}
@@ -0,0 +1,8 @@
+package br.com.microservices.choreography.orderservice.core.repository;
+
+import br.com.microservices.choreography.orderservice.core.document.SagaLease;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface SagaLeaseRepository extends MongoRepository<SagaLease, String>, SagaLeaseStateRepository {
+
+}
@@ -0,0 +1,15 @@
+package br.com.microservices.choreography.orderservice.core.repository;
+
+import br.com.microservices.choreography.orderservice.core.document.SagaLease;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface SagaLeaseStateRepository {
+
+    Optional<SagaLease> tryAcquire(String name, String owner, Duration duration);
+
+    void saveCursor(String name, String owner, LocalDateTime cursor);
+
+}
@@ -0,0 +1,43 @@
+package br.com.microservices.choreography.orderservice.core.repository;
+
+import br.com.microservices.choreography.orderservice.core.document.SagaLease;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class SagaLeaseStateRepositoryImpl implements SagaLeaseStateRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<SagaLease> tryAcquire(String name, String owner, Duration duration){
+        var now = LocalDateTime.now();
+        var query = Query.query(Criteria.where("name").is(name)
+                .orOperator(Criteria.where("owner").is(owner), Criteria.where("expiresAt").lt(now)));
+        var update = new Update()
+                .set("owner", owner)
+                .set("expiresAt", now.plus(duration));
+        var options = FindAndModifyOptions.options().upsert(true).returnNew(true);
+        try{
+            return Optional.ofNullable(mongoTemplate.findAndModify(query, update, options, SagaLease.class));
+        }catch (DuplicateKeyException ex){
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void saveCursor(String name, String owner, LocalDateTime cursor){
+        var query = Query.query(Criteria.where("name").is(name).and("owner").is(owner));
+        mongoTemplate.updateFirst(query, Update.update("cursor", cursor), SagaLease.class);
+    }
+
+}
@@ -0,0 +1,75 @@
+package br.com.microservices.choreography.orderservice.core.saga;
+
+import br.com.microservices.choreography.orderservice.core.document.ArchivedEvent;
+import br.com.microservices.choreography.orderservice.core.document.Event;
+import br.com.microservices.choreography.orderservice.core.repository.ArchivedEventRepository;
+import br.com.microservices.choreography.orderservice.core.repository.EventRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventArchiver {
+
+    private static final String ARCHIVE_TTL_INDEX = "archived_at_ttl_idx";
+
+    private final EventRepository eventRepository;
+    private final ArchivedEventRepository archivedEventRepository;
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${event.archive.hot-retention}")
+    private Duration hotRetention;
+
+    @Value("${event.archive.ttl}")
+    private Duration ttl;
+
+    @Value("${event.archive.batch-size}")
+    private int batchSize;
+
+    @Value("${event.archive.max-batches-per-run}")
+    private int maxBatchesPerRun;
+
+    @PostConstruct
+    public void createTtlIndex(){
+        mongoTemplate
+                .indexOps(ArchivedEvent.class)
+                .ensureIndex(new Index().on("archivedAt", Sort.Direction.ASC).named(ARCHIVE_TTL_INDEX).expire(ttl));
+    }
+
+    @Scheduled(fixedDelayString = "${event.archive.interval}")
+    public void archive(){
+        var limit = LocalDateTime.now().minus(hotRetention);
+        var archived = 0;
+        for(var batch = 0; batch < maxBatchesPerRun; batch++){
+            var count = archiveBatch(limit);
+            archived += count;
+            if(count < batchSize)
+                break;
+        }
+        if(archived > 0)
+            log.info("Archived {} completed saga events finished before {}", archived, limit);
+    }
+
+    private int archiveBatch(LocalDateTime limit){
+        var events = eventRepository.findByFinishedAtBefore(limit, PageRequest.of(0, batchSize, Sort.by("finishedAt")));
+        if(events.isEmpty())
+            return 0;
+        var archivedAt = LocalDateTime.now();
+        archivedEventRepository.saveAll(events.stream().map(event -> ArchivedEvent.of(event, archivedAt)).toList());
+        eventRepository.deleteAllById(events.stream().map(Event::getId).toList());
+        return events.size();
+    }
+
+}
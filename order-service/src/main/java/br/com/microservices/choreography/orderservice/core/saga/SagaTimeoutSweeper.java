@@ -0,0 +1,84 @@
+package br.com.microservices.choreography.orderservice.core.saga;
+
+import br.com.microservices.choreography.orderservice.core.producer.SagaProducer;
+import br.com.microservices.choreography.orderservice.core.repository.SagaLeaseRepository;
+import br.com.microservices.choreography.orderservice.core.service.EventService;
+import br.com.microservices.choreography.sagacore.core.utils.JsonUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.apache.commons.lang3.ObjectUtils.isEmpty;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SagaTimeoutSweeper {
+
+    private static final String LEASE_NAME = "saga-timeout-sweeper";
+
+    private final String owner = UUID.randomUUID().toString();
+    private final EventService eventService;
+    private final SagaLeaseRepository leaseRepository;
+    private final SagaProducer producer;
+    private final JsonUtil jsonUtil;
+
+    @Value("${saga.timeout.compensation-topics}")
+    private String[] compensationTopics;
+
+    @Value("${saga.timeout.deadline}")
+    private Duration deadline;
+
+    @Value("${saga.timeout.bucket-size}")
+    private Duration bucketSize;
+
+    @Value("${saga.timeout.max-buckets-per-run}")
+    private int maxBucketsPerRun;
+
+    @Value("${saga.timeout.batch-size}")
+    private int batchSize;
+
+    @Value("${saga.timeout.lease-duration}")
+    private Duration leaseDuration;
+
+    @Scheduled(fixedDelayString = "${saga.timeout.sweep-interval}")
+    public void sweep(){
+        var lease = leaseRepository.tryAcquire(LEASE_NAME, owner, leaseDuration);
+        if(lease.isEmpty())
+            return;
+        var limit = LocalDateTime.now().minus(deadline);
+        var cursor = lease.get().getCursor();
+        if(isEmpty(cursor))
+            cursor = eventService.findOldestPendingSagaCreatedAt().orElse(limit);
+
+        var scannedBuckets = 0;
+        while(cursor.isBefore(limit) && scannedBuckets < maxBucketsPerRun){
+            var bucketEnd = cursor.plus(bucketSize);
+            if(bucketEnd.isAfter(limit))
+                bucketEnd = limit;
+            if(sweepBucket(cursor, bucketEnd) < batchSize)
+                cursor = bucketEnd;
+            scannedBuckets++;
+        }
+        leaseRepository.saveCursor(LEASE_NAME, owner, cursor);
+    }
+
+    private int sweepBucket(LocalDateTime from, LocalDateTime to){
+        var events = eventService.findPendingSagas(from, to, batchSize);
+        events.forEach(event -> eventService.notifyTimeout(event).ifPresent(timedOut -> {
+            log.info("Saga for order {} exceeded deadline of {}. Sending to compensation topics {}. TransactionId: {}",
+                    timedOut.getOrderId(), deadline, String.join(",", compensationTopics), timedOut.getTransactionId());
+            var payload = jsonUtil.toJson(timedOut);
+            for (var topic : compensationTopics)
+                producer.sendEvent(payload, timedOut.getOrderId(), topic);
+        }));
+        return events.size();
+    }
+
+}
@@ -0,0 +1,79 @@
+package br.com.microservices.choreography.orderservice.core.service;
+
+import br.com.microservices.choreography.orderservice.core.document.ClaimedPayload;
+import br.com.microservices.choreography.orderservice.core.document.Event;
+import br.com.microservices.choreography.orderservice.core.repository.ClaimedPayloadRepository;
+import br.com.microservices.choreography.sagacore.core.utils.JsonUtil;
+import br.com.microservices.choreography.sagacore.config.exception.ValidationException;
+import br.com.microservices.choreography.sagacore.core.dto.ClaimCheck;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ClaimCheckService {
+
+    private final ClaimedPayloadRepository repository;
+    private final JsonUtil jsonUtil;
+
+    @Value("${order.claim-check.enabled}")
+    private boolean enabled;
+
+    @Value("${order.claim-check.threshold}")
+    private DataSize threshold;
+
+    public Event checkIn(Event event){
+        return checkIn(List.of(event)).get(0);
+    }
+
+    public List<Event> checkIn(List<Event> events){
+        if(!enabled)
+            return events;
+        var claimed = new ArrayList<ClaimedPayload>();
+        var checkedIn = new ArrayList<Event>(events.size());
+        for (var event : events) {
+            var content = jsonUtil.toJson(event.getPayload().getProducts());
+            var size = content.getBytes(UTF_8).length;
+            if(size <= threshold.toBytes()){
+                checkedIn.add(event);
+                continue;
+            }
+            var hash = ClaimCheck.hash(content);
+            claimed.add(ClaimedPayload
+                    .builder()
+                    .reference(event.getOrderId())
+                    .content(content)
+                    .hash(hash)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+            checkedIn.add(event
+                    .toBuilder()
+                    .payload(event.getPayload().toBuilder().products(null).build())
+                    .claimCheck(new ClaimCheck(event.getOrderId(), hash, size))
+                    .build());
+        }
+        if(!claimed.isEmpty()){
+            repository.saveAll(claimed);
+            log.info("Checked in {} order payloads above {} bytes", claimed.size(), threshold.toBytes());
+        }
+        return checkedIn;
+    }
+
+    public String findContent(String reference){
+        return repository
+                .findById(reference)
+                .map(ClaimedPayload::getContent)
+                .orElseThrow(() -> new ValidationException("Claim check not found for reference ".concat(reference)));
+    }
+
+}
@@ -1,20 +1,26 @@
 package br.com.microservices.choreography.orderservice.core.service;
 
-import br.com.microservices.choreography.orderservice.config.exception.ValidationException;
-import br.com.microservices.choreography.orderservice.core.document.History;
-import br.com.microservices.choreography.orderservice.core.document.Order;
-import br.com.microservices.choreography.orderservice.core.enums.ESagaStatus;
+import br.com.microservices.choreography.sagacore.config.exception.ValidationException;
+import br.com.microservices.choreography.orderservice.core.document.ArchivedEvent;
+import br.com.microservices.choreography.sagacore.core.dto.History;
+import br.com.microservices.choreography.sagacore.core.dto.Order;
+import br.com.microservices.choreography.sagacore.core.enums.ESagaStatus;
+import br.com.microservices.choreography.orderservice.core.repository.ArchivedEventRepository;
 import br.com.microservices.choreography.orderservice.core.repository.EventRepository;
 import br.com.microservices.choreography.orderservice.core.document.Event;
 import br.com.microservices.choreography.orderservice.core.dto.EventFilter;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
-import static br.com.microservices.choreography.orderservice.core.enums.ESagaStatus.SUCCESS;
+import static br.com.microservices.choreography.sagacore.core.enums.ESagaStatus.ROLLBACK_PENDING;
+import static br.com.microservices.choreography.sagacore.core.enums.ESagaStatus.SUCCESS;
 import static org.apache.commons.lang3.ObjectUtils.isEmpty;
 
 @Service
@@ -25,13 +31,15 @@ public class EventService {
     private static final String CURRENT_SERVICE = "ORDER_SERVICE";
 
     private final EventRepository repository;
+    private final ArchivedEventRepository archivedEventRepository;
 
     public void notifyEnding(Event event){
         event.setSource(CURRENT_SERVICE);
         event.setOrderId(event.getOrderId());
         event.setCreatedAt(LocalDateTime.now());
+        event.setFinishedAt(event.getCreatedAt());
         setEndingHistory(event);
-        save(event);
+        updateSagaState(event, participantHistory(event));
         log.info("Order {} with saga notified! TransactionId: {}",
                 event.getOrderId(), event.getTransactionId());
     }
@@ -46,6 +54,28 @@ public class EventService {
         }
     }
 
+    public List<Event> findPendingSagas(LocalDateTime from, LocalDateTime to, int limit){
+        return repository.findPendingSagas(from, to, PageRequest.of(0, limit, Sort.by("createdAt")));
+    }
+
+    public Optional<LocalDateTime> findOldestPendingSagaCreatedAt(){
+        return repository
+                .findTop1ByFinishedAtIsNullAndStatusOrderByCreatedAtAsc(SUCCESS)
+                .map(Event::getCreatedAt);
+    }
+
+    public Optional<Event> notifyTimeout(Event event){
+        event.setSource(CURRENT_SERVICE);
+        event.setStatus(ROLLBACK_PENDING);
+        addHistory(event, "Saga timed out without completion. Compensation requested.");
+        if(!repository.markTimedOut(event, latestHistory(event))){
+            log.info("Saga for event {} finished or timed out concurrently. Skipping compensation.", event.getId());
+            return Optional.empty();
+        }
+        log.info("SAGA TIMED OUT FOR EVENT {}", event.getId());
+        return Optional.of(event);
+    }
+
     public List<Event> findAll(){
         return repository.findAllByOrderByCreatedAtDesc();
     }
@@ -61,11 +91,13 @@ public class EventService {
 
     private Event findByOrderId(String orderId){
         return repository.findTop1ByOrderIdOrderByCreatedAtDesc(orderId)
+                .or(() -> archivedEventRepository.findTop1ByOrderIdOrderByCreatedAtDesc(orderId).map(ArchivedEvent::toEvent))
                 .orElseThrow(() -> new ValidationException("Event not found by OrderId"));
     }
 
     private Event findByTransactionId(String transactionId){
         return repository.findTop1ByTransactionIdOrderByCreatedAtDesc(transactionId)
+                .or(() -> archivedEventRepository.findTop1ByTransactionIdOrderByCreatedAtDesc(transactionId).map(ArchivedEvent::toEvent))
                 .orElseThrow(() -> new ValidationException("Event not found by TransactionId"));
     }
 
@@ -74,11 +106,38 @@ public class EventService {
             throw new ValidationException("OrderId or TransactionId must be informed.");
     }
 
+    private History latestHistory(Event event){
+        var history = event.getEventHistory();
+        return history.get(history.size() - 1);
+    }
+
+    private List<History> participantHistory(Event event){
+        var latest = latestHistory(event);
+        return event
+                .getEventHistory()
+                .stream()
+                .filter(entry -> entry == latest || !CURRENT_SERVICE.equals(entry.getSource()))
+                .toList();
+    }
+
+    private void updateSagaState(Event event, List<History> appendedHistory){
+        if(!repository.updateSagaState(event, appendedHistory))
+            save(event);
+    }
+
     public Event save(Event event){
         return repository.save(event);
     }
 
     public Event createEvent(Order order) {
+        return save(buildEvent(order));
+    }
+
+    public List<Event> createEvents(List<Order> orders){
+        return repository.insert(orders.stream().map(this::buildEvent).toList());
+    }
+
+    private Event buildEvent(Order order){
         var event = Event
                 .builder()
                 .orderId(order.getId())
@@ -89,7 +148,7 @@ public class EventService {
                 .createdAt(LocalDateTime.now())
                 .build();
         addHistory(event, "Saga started.");
-        return save(event);
+        return event;
     }
 
     private void addHistory(Event event, String message){
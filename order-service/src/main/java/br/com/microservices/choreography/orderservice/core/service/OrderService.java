@@ -1,39 +1,135 @@
 package br.com.microservices.choreography.orderservice.core.service;
 
+import br.com.microservices.choreography.sagacore.config.exception.ValidationException;
+import br.com.microservices.choreography.orderservice.core.dto.OrderBatchResult;
+import br.com.microservices.choreography.orderservice.core.id.TransactionIdGenerator;
 import br.com.microservices.choreography.orderservice.core.producer.SagaProducer;
 import br.com.microservices.choreography.orderservice.core.repository.OrderRepository;
 import br.com.microservices.choreography.orderservice.core.document.Event;
-import br.com.microservices.choreography.orderservice.core.document.Order;
+import br.com.microservices.choreography.sagacore.core.dto.Order;
+import br.com.microservices.choreography.sagacore.core.dto.OrderProduct;
 import br.com.microservices.choreography.orderservice.core.dto.OrderRequest;
-import br.com.microservices.choreography.orderservice.core.utils.JsonUtil;
-import lombok.AllArgsConstructor;
+import br.com.microservices.choreography.sagacore.core.utils.JsonUtil;
+import br.com.microservices.choreography.sagacore.core.utils.OrderTotals;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.time.Instant;
+import java.io.InputStream;
 import java.time.LocalDateTime;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.List;
 
+import static br.com.microservices.choreography.orderservice.core.enums.EOrderIntakeStatus.ACCEPTED;
+import static br.com.microservices.choreography.orderservice.core.enums.EOrderIntakeStatus.PUBLISH_FAILED;
+import static br.com.microservices.choreography.orderservice.core.enums.EOrderIntakeStatus.REJECTED;
+import static br.com.microservices.choreography.sagacore.core.enums.EOrderPriority.STANDARD;
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+@Slf4j
 @Service
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class OrderService {
 
     private final OrderRepository repository;
-    private static final String TRANSACTION_ID_PATTERN = "%s_%s";
     private final JsonUtil jsonUtil;
     private final SagaProducer producer;
     private final EventService eventService;
+    private final TransactionIdGenerator transactionIdGenerator;
+    private final ClaimCheckService claimCheckService;
+
+    @Value("${order.storage.single-document}")
+    private boolean singleDocument;
+
+    @Value("${order.batch.max-size}")
+    private int batchMaxSize;
 
     public Order createOrder(OrderRequest orderRequest) {
-        var order = Order
+        var order = buildOrder(orderRequest);
+        if(singleDocument)
+            order.setId(new ObjectId().toHexString());
+        else
+            repository.save(order);
+        producer.sendEvent(jsonUtil.toJson(claimCheckService.checkIn(eventService.createEvent(order))),
+                order.getId(), order.getPriority());
+        return order;
+    }
+
+    public List<OrderRequest> readOrderRequests(InputStream ndjson){
+        return jsonUtil.toList(ndjson, OrderRequest.class, batchMaxSize);
+    }
+
+    public List<OrderBatchResult> createOrders(List<OrderRequest> orderRequests){
+        validateBatchSize(orderRequests);
+        var results = new ArrayList<OrderBatchResult>(orderRequests.size());
+        var acceptedResults = new ArrayList<OrderBatchResult>(orderRequests.size());
+        var orders = new ArrayList<Order>(orderRequests.size());
+        for (int index = 0, size = orderRequests.size(); index < size; index++) {
+            try{
+                var order = buildBatchOrder(orderRequests.get(index));
+                var result = OrderBatchResult
+                        .builder()
+                        .index(index)
+                        .orderId(order.getId())
+                        .transactionId(order.getTransactionId())
+                        .status(ACCEPTED)
+                        .build();
+                orders.add(order);
+                acceptedResults.add(result);
+                results.add(result);
+            }catch (ValidationException | ArithmeticException ex){
+                results.add(OrderBatchResult.builder().index(index).status(REJECTED).message(ex.getMessage()).build());
+            }
+        }
+        if(orders.isEmpty())
+            return results;
+        if(!singleDocument)
+            repository.insert(orders);
+        var events = claimCheckService.checkIn(eventService.createEvents(orders));
+        var sends = producer.sendEvents(
+                events.stream().map(jsonUtil::toJson).toList(),
+                orders.stream().map(Order::getId).toList(),
+                orders.stream().map(Order::getPriority).toList());
+        for (int index = 0, size = sends.size(); index < size; index++) {
+            var published = sends.get(index).handle((result, ex) -> ex == null).join();
+            if(!published){
+                acceptedResults.get(index).setStatus(PUBLISH_FAILED);
+                acceptedResults.get(index).setMessage("Order saved but its saga start event could not be published.");
+            }
+        }
+        log.info("Batch of {} orders received, {} accepted", orderRequests.size(), orders.size());
+        return results;
+    }
+
+    private void validateBatchSize(List<OrderRequest> orderRequests){
+        if(isEmpty(orderRequests))
+            throw new ValidationException("At least one order must be informed.");
+        if(orderRequests.size() > batchMaxSize)
+            throw new ValidationException(String.format("Batch size must not exceed %s orders.", batchMaxSize));
+    }
+
+    private Order buildBatchOrder(OrderRequest orderRequest){
+        if(orderRequest == null || isEmpty(orderRequest.getProducts()))
+            throw new ValidationException("Products must be informed.");
+        var order = buildOrder(orderRequest);
+        order.setId(new ObjectId().toHexString());
+        return order;
+    }
+
+    private Order buildOrder(OrderRequest orderRequest){
+        var totals = OrderTotals.of(orderRequest.getProducts(),
+                OrderProduct::getQuantity, orderProduct -> orderProduct.getProduct().getUnitValue());
+        return Order
                 .builder()
                 .products(orderRequest.getProducts())
+                .priority(isEmpty(orderRequest.getPriority()) ? STANDARD : orderRequest.getPriority())
+                .totalAmount(totals.totalAmountValue())
+                .totalItems(totals.totalItems())
                 .createdAt(LocalDateTime.now())
-                .transactionId(
-                        String.format(TRANSACTION_ID_PATTERN, Instant.now().toEpochMilli(), UUID.randomUUID()))
+                .transactionId(transactionIdGenerator.nextId())
                 .build();
-        repository.save(order);
-        producer.sendEvent(jsonUtil.toJson(eventService.createEvent(order)));
-        return order;
     }
 
 }
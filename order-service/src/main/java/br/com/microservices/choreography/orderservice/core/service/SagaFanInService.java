@@ -0,0 +1,124 @@
+package br.com.microservices.choreography.orderservice.core.service;
+
+import br.com.microservices.choreography.orderservice.config.saga.SagaFanInProperties;
+import br.com.microservices.choreography.orderservice.core.document.Event;
+import br.com.microservices.choreography.sagacore.core.dto.History;
+import br.com.microservices.choreography.orderservice.core.document.SagaJoin;
+import br.com.microservices.choreography.orderservice.core.producer.SagaProducer;
+import br.com.microservices.choreography.orderservice.core.repository.SagaJoinRepository;
+import br.com.microservices.choreography.sagacore.core.utils.JsonUtil;
+import br.com.microservices.choreography.sagacore.core.enums.ESagaStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+
+import static br.com.microservices.choreography.sagacore.core.enums.ESagaStatus.FAIL;
+import static br.com.microservices.choreography.sagacore.core.enums.ESagaStatus.ROLLBACK_PENDING;
+import static br.com.microservices.choreography.sagacore.core.enums.ESagaStatus.SUCCESS;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SagaFanInService {
+
+    private static final String CURRENT_SERVICE = "ORDER_SERVICE";
+    private static final String COMPENSATE_DECISION = "COMPENSATE_";
+
+    private final SagaJoinRepository repository;
+    private final SagaFanInProperties properties;
+    private final EventService eventService;
+    private final SagaProducer producer;
+    private final JsonUtil jsonUtil;
+
+    @Value("${spring.kafka.topic.product-validation-fail}")
+    private String productValidationFailTopic;
+
+    public void join(Event event){
+        var compensations = properties.getCompensations();
+        if(!compensations.containsKey(event.getSource())){
+            log.warn("Ignoring fan-in event from unknown branch {}. TransactionId: {}",
+                    event.getSource(), event.getTransactionId());
+            return;
+        }
+        var join = repository.mergeBranch(event);
+        var branches = join.getBranches();
+        if(!branches.keySet().containsAll(compensations.keySet())){
+            log.info("Branch {} joined with status {}. Waiting for the remaining branches. TransactionId: {}",
+                    event.getSource(), event.getStatus(), event.getTransactionId());
+            return;
+        }
+        var succeeded = compensations
+                .keySet()
+                .stream()
+                .filter(branch -> SUCCESS.equals(branches.get(branch).getStatus()))
+                .toList();
+        if(succeeded.size() == compensations.size()){
+            if(decide(join, SUCCESS.name()))
+                eventService.notifyEnding(mergeBranches(join, SUCCESS, "All parallel branches finished successfully."));
+        } else if(succeeded.isEmpty()){
+            if(!decide(join, FAIL.name()))
+                return;
+            var merged = mergeBranches(join, FAIL, "All parallel branches were rolled back.");
+            log.info("Sending saga to compensation topic {}. TransactionId: {}",
+                    productValidationFailTopic, merged.getTransactionId());
+            producer.sendEvent(jsonUtil.toJson(merged), merged.getOrderId(), productValidationFailTopic);
+        } else {
+            succeeded.stream().filter(branch -> decide(join, COMPENSATE_DECISION.concat(branch))).forEach(branch -> {
+                var merged = mergeBranches(join, ROLLBACK_PENDING,
+                        String.format("Parallel branch failed. Compensating %s.", branch));
+                var topic = compensations.get(branch);
+                log.info("Sending branch {} to compensation topic {}. TransactionId: {}",
+                        branch, topic, merged.getTransactionId());
+                producer.sendEvent(jsonUtil.toJson(merged), merged.getOrderId(), topic);
+            });
+        }
+    }
+
+    private boolean decide(SagaJoin join, String decision){
+        if(repository.markDecided(join.getTransactionId(), decision))
+            return true;
+        log.info("Join already decided {}. Ignoring late branch event. TransactionId: {}",
+                decision, join.getTransactionId());
+        return false;
+    }
+
+    private Event mergeBranches(SagaJoin join, ESagaStatus status, String message){
+        var branchEvents = properties
+                .getCompensations()
+                .keySet()
+                .stream()
+                .map(join.getBranches()::get)
+                .toList();
+        var history = new LinkedHashSet<History>();
+        branchEvents.forEach(branchEvent -> history.addAll(branchEvent.getEventHistory()));
+        var mergedHistory = new ArrayList<>(history);
+        mergedHistory.sort(Comparator.comparing(History::getCreatedAt));
+        var base = branchEvents.get(0);
+        var merged = Event
+                .builder()
+                .id(base.getId())
+                .transactionId(base.getTransactionId())
+                .orderId(base.getOrderId())
+                .payload(base.getPayload())
+                .source(CURRENT_SERVICE)
+                .status(status)
+                .eventHistory(mergedHistory)
+                .createdAt(LocalDateTime.now())
+                .build();
+        merged.addToHistory(History
+                .builder()
+                .source(CURRENT_SERVICE)
+                .status(status)
+                .message(message)
+                .createdAt(LocalDateTime.now())
+                .build());
+        return merged;
+    }
+
+}
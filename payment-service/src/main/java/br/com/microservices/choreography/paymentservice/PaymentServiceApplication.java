@@ -3,7 +3,10 @@ package br.com.microservices.choreography.paymentservice;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
-@SpringBootApplication
+@SpringBootApplication(scanBasePackages = {
+		"br.com.microservices.choreography.paymentservice",
+		"br.com.microservices.choreography.sagacore"
+})
 public class PaymentServiceApplication {
 
 	public static void main(String[] args) {
@@ -1,4 +0,0 @@
-package br.com.microservices.choreography.paymentservice.config.exception;
-
-public record ExceptionDetail(int status, String message) {
-}
@@ -1,17 +0,0 @@
-package br.com.microservices.choreography.paymentservice.config.exception;
-
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.ControllerAdvice;
-import org.springframework.web.bind.annotation.ExceptionHandler;
-
-@ControllerAdvice
-public class ExceptionGlobalHandler {
-
-    @ExceptionHandler(ValidationException.class)
-    public ResponseEntity<?> handleValidationException(ValidationException validationException){
-        var detail = new ExceptionDetail(HttpStatus.BAD_REQUEST.value(), validationException.getMessage());
-        return new ResponseEntity<>(detail, HttpStatus.BAD_REQUEST);
-    }
-
-}
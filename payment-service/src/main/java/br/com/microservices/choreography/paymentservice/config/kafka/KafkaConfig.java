@@ -1,101 +0,0 @@
-package br.com.microservices.choreography.paymentservice.config.kafka;
-
-import lombok.RequiredArgsConstructor;
-import org.apache.kafka.clients.admin.NewTopic;
-import org.apache.kafka.clients.consumer.ConsumerConfig;
-import org.apache.kafka.clients.producer.ProducerConfig;
-import org.apache.kafka.common.serialization.StringDeserializer;
-import org.apache.kafka.common.serialization.StringSerializer;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.kafka.annotation.EnableKafka;
-import org.springframework.kafka.config.TopicBuilder;
-import org.springframework.kafka.core.*;
-
-import java.util.HashMap;
-import java.util.Map;
-
-@EnableKafka
-@Configuration
-@RequiredArgsConstructor
-public class KafkaConfig {
-
-    private static final Integer PARTITION_COUNT = 1;
-    private static final Integer REPLICA_COUNT = 1;
-    @Value("${spring.kafka.bootstrap-servers}")
-    private String bootstrapServers;
-    @Value("${spring.kafka.consumer.group-id}")
-    private String groupId;
-    @Value("${spring.kafka.consumer.auto-offset-reset}")
-    private String autoOffsetReset;
-    @Value("${spring.kafka.topic.payment-fail}")
-    private String paymentFailTopic;
-    @Value("${spring.kafka.topic.payment-success}")
-    private String paymentSuccessTopic;
-
-    @Value("${spring.kafka.topic.product-validation-fail}")
-    private String productValidationFailTopic;
-    @Value("${spring.kafka.topic.inventory-success}")
-    private String inventorySuccessTopic;
-    @Bean
-    public ConsumerFactory<String, String> consumerFactory(){
-        return new DefaultKafkaConsumerFactory<>(consumerProps());
-    }
-
-    private Map<String, Object> consumerProps(){
-        var props = new HashMap<String, Object>();
-        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
-        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, autoOffsetReset);
-
-        return props;
-    }
-
-    @Bean
-    public ProducerFactory<String, String> producerFactory(){
-        return new DefaultKafkaProducerFactory<>(producerProps());
-    }
-
-    private Map<String, Object> producerProps() {
-        var props = new HashMap<String, Object>();
-        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        return props;
-    }
-
-    @Bean
-    public KafkaTemplate<String, String> kafkaTemplate(ProducerFactory<String, String> producerFactory){
-        return new KafkaTemplate<>(producerFactory);
-    }
-
-    private NewTopic buildTopic(String name){
-        return TopicBuilder
-                .name(name)
-                .replicas(REPLICA_COUNT)
-                .partitions(PARTITION_COUNT).build();
-    }
-
-    @Bean
-    public NewTopic paymentFailTopic(){
-        return buildTopic(paymentFailTopic);
-    }
-
-    @Bean
-    public NewTopic paymentSuccessTopic(){
-        return buildTopic(paymentSuccessTopic);
-    }
-
-    @Bean
-    public NewTopic productValidationFailTopic(){
-        return buildTopic(productValidationFailTopic);
-    }
-
-    @Bean
-    public NewTopic inventorySuccessTopic(){
-        return buildTopic(inventorySuccessTopic);
-    }
-}
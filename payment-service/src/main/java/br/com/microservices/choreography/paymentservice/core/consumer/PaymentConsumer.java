@@ -1,39 +1,185 @@
 package br.com.microservices.choreography.paymentservice.core.consumer;
 
 
+import br.com.microservices.choreography.sagacore.config.exception.ValidationException;
+import br.com.microservices.choreography.sagacore.core.consumer.KeyOrderedDispatcher;
+import br.com.microservices.choreography.sagacore.core.dto.Event;
+import br.com.microservices.choreography.paymentservice.core.gateway.PaymentGatewayClient;
 import br.com.microservices.choreography.paymentservice.core.service.PaymentService;
-import br.com.microservices.choreography.paymentservice.core.utils.JsonUtil;
+import br.com.microservices.choreography.sagacore.core.utils.JsonUtil;
+import jakarta.annotation.PreDestroy;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
+import org.springframework.util.backoff.BackOffExecution;
+import org.springframework.util.backoff.ExponentialBackOff;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @AllArgsConstructor
 @Component
 public class PaymentConsumer {
 
+    private static final String SUCCESS_LISTENER = "payment-success";
+    private static final String PRIORITY_LISTENER = "payment-priority";
+    private static final long DEAD_LETTER_INITIAL_INTERVAL = 1000L;
+    private static final double DEAD_LETTER_MULTIPLIER = 2.0;
+    private static final long DEAD_LETTER_MAX_INTERVAL = 30000L;
+
     private final JsonUtil jsonUtil;
+    private final KeyOrderedDispatcher dispatcher;
     private final PaymentService paymentService;
+    private final PaymentGatewayClient paymentGatewayClient;
+    private final KafkaListenerEndpointRegistry registry;
+    private final DeadLetterPublishingRecoverer deadLetterPublishingRecoverer;
+    private final ScheduledExecutorService deadLetterScheduler = Executors.newSingleThreadScheduledExecutor();
+
+    @KafkaListener(
+        id = SUCCESS_LISTENER,
+        groupId = "${spring.kafka.consumer.group-id}",
+        topics = "${spring.kafka.topic.payment-success}",
+        containerFactory = "manualAckListenerContainerFactory",
+        autoStartup = "#{!${saga.parallel-consumer.enabled}}")
+    public void consumeSuccessEvent(ConsumerRecord<String, String> record,
+                                    @Header(name = KafkaHeaders.ACKNOWLEDGMENT, required = false)
+                                    Acknowledgment acknowledgment){
+        log.info("Receiving success event {} from payment-success topic",
+                record.value());
+        realizePayment(SUCCESS_LISTENER, record, acknowledgment);
+    }
 
     @KafkaListener(
+        id = PRIORITY_LISTENER,
         groupId = "${spring.kafka.consumer.group-id}",
-        topics = "${spring.kafka.topic.payment-success}")
-    public void consumeSuccessEvent(String payload){
+        topics = "${spring.kafka.topic.payment-success}${saga.priority-lanes.suffix}",
+        containerFactory = "manualAckListenerContainerFactory",
+        concurrency = "${saga.priority-lanes.concurrency}",
+        autoStartup = "${saga.priority-lanes.enabled}")
+    public void consumePrioritySuccessEvent(ConsumerRecord<String, String> record,
+                                            @Header(name = KafkaHeaders.ACKNOWLEDGMENT, required = false)
+                                            Acknowledgment acknowledgment){
+        log.info("Receiving priority success event {} from payment-success priority topic",
+                record.value());
+        realizePayment(PRIORITY_LISTENER, record, acknowledgment);
+    }
+
+    private void realizePayment(String listenerId, ConsumerRecord<String, String> record,
+                                Acknowledgment acknowledgment){
+        var event = jsonUtil.toEvent(record.value());
+        paymentService.realizePayment(event).whenComplete((result, error) -> {
+            if(error == null)
+                acknowledge(acknowledgment);
+            else
+                deadLetter(record, acknowledgment, error);
+            resumeIfRecovered(listenerId);
+        });
+        if(paymentGatewayClient.isSaturated())
+            pause(listenerId);
+    }
+
+    private void deadLetter(ConsumerRecord<String, String> record, Acknowledgment acknowledgment, Throwable error){
+        var cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        log.error("Payment for record {}-{}@{} could not be completed. Sending it to the dead-letter topic.",
+                record.topic(), record.partition(), record.offset(), cause);
+        var backOff = new ExponentialBackOff(DEAD_LETTER_INITIAL_INTERVAL, DEAD_LETTER_MULTIPLIER);
+        backOff.setMaxInterval(DEAD_LETTER_MAX_INTERVAL);
+        publishDeadLetter(record, acknowledgment,
+                cause instanceof Exception exception ? exception : new IllegalStateException(cause), backOff.start());
+    }
+
+    private void publishDeadLetter(ConsumerRecord<String, String> record, Acknowledgment acknowledgment,
+                                   Exception cause, BackOffExecution retries){
+        try{
+            deadLetterPublishingRecoverer.accept(record, cause);
+            acknowledge(acknowledgment);
+        }catch (Exception e){
+            var wait = retries.nextBackOff();
+            log.error("Error sending record {}-{}@{} to the dead-letter topic, retrying in {}ms.",
+                    record.topic(), record.partition(), record.offset(), wait, e);
+            try{
+                deadLetterScheduler.schedule(() -> publishDeadLetter(record, acknowledgment, cause, retries),
+                        wait, TimeUnit.MILLISECONDS);
+            }catch (RejectedExecutionException rejected){
+                log.warn("Record {}-{}@{} was not dead-lettered before shutdown and will be redelivered.",
+                        record.topic(), record.partition(), record.offset());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown(){
+        deadLetterScheduler.shutdownNow();
+    }
+
+    private void acknowledge(Acknowledgment acknowledgment){
+        if(acknowledgment != null)
+            acknowledgment.acknowledge();
+    }
+
+    private void pause(String listenerId){
+        var container = registry.getListenerContainer(listenerId);
+        if(container == null || !container.isRunning() || container.isPauseRequested())
+            return;
+        log.warn("Payment gateway saturated. Pausing listener {}.", listenerId);
+        container.pause();
+        resumeIfRecovered(listenerId);
+    }
+
+    private void resumeIfRecovered(String listenerId){
+        var container = registry.getListenerContainer(listenerId);
+        if(container != null && container.isPauseRequested() && paymentGatewayClient.isRecovered()){
+            log.info("Payment gateway recovered. Resuming listener {}.", listenerId);
+            container.resume();
+        }
+    }
+
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.payment-success}",
+            containerFactory = "parallelListenerContainerFactory",
+            autoStartup = "${saga.parallel-consumer.enabled}",
+            properties = "max.poll.records=${saga.parallel-consumer.batch-size}")
+    public void consumeSuccessEventInParallel(ConsumerRecord<String, String> record, Acknowledgment acknowledgment){
         log.info("Receiving success event {} from payment-success topic",
-                payload);
-        var event = jsonUtil.toEvent(payload);
-        paymentService.realizePayment(event);
+                record.value());
+        dispatcher.dispatch(record, acknowledgment, jsonUtil::toEvent, Event::getTransactionId, event -> paymentService.realizePayment(event).join());
     }
 
     @KafkaListener(
+            id = "payment-compensation",
             groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.payment-fail}")
-    public void consumeFailEvent(String payload){
-        log.info("Receiving rollback event {} from payment-fail topic",
-                payload);
-        var event = jsonUtil.toEvent(payload);
-        paymentService.realizeRefund(event);
+            topics = "${spring.kafka.topic.payment-fail}",
+            concurrency = "${saga.compensation.concurrency}",
+            containerFactory = "batchListenerContainerFactory",
+            properties = "max.poll.records=${spring.kafka.consumer.rollback-batch-size}")
+    public void consumeFailEvents(List<String> payloads){
+        log.info("Receiving {} rollback events from payment-fail topic",
+                payloads.size());
+        var events = new ArrayList<Event>(payloads.size());
+        for (var index = 0; index < payloads.size(); index++) {
+            try{
+                events.add(jsonUtil.toEvent(payloads.get(index)));
+            }catch (ValidationException e){
+                paymentService.realizeRefunds(events);
+                throw new BatchListenerFailedException(e.getMessage(), e, index);
+            }
+        }
+        paymentService.realizeRefunds(events);
     }
 
 }
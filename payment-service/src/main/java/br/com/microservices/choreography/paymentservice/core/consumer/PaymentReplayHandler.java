@@ -0,0 +1,45 @@
+package br.com.microservices.choreography.paymentservice.core.consumer;
+
+import br.com.microservices.choreography.paymentservice.core.service.PaymentService;
+import br.com.microservices.choreography.sagacore.core.replay.ReplayPayloads;
+import br.com.microservices.choreography.sagacore.core.replay.SagaReplayHandler;
+import br.com.microservices.choreography.sagacore.core.utils.JsonUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class PaymentReplayHandler implements SagaReplayHandler {
+
+    private final JsonUtil jsonUtil;
+    private final PaymentService paymentService;
+
+    @Value("${spring.kafka.topic.payment-success}")
+    private String paymentSuccessTopic;
+
+    @Value("${spring.kafka.topic.payment-fail}")
+    private String paymentFailTopic;
+
+    @Value("${saga.priority-lanes.suffix}")
+    private String priorityLaneSuffix;
+
+    @Override
+    public boolean supports(String topic){
+        return paymentSuccessTopic.equals(topic)
+                || paymentSuccessTopic.concat(priorityLaneSuffix).equals(topic)
+                || paymentFailTopic.equals(topic);
+    }
+
+    @Override
+    public void replay(String topic, List<String> payloads){
+        var events = ReplayPayloads.parse(topic, payloads, jsonUtil::toEvent);
+        if(paymentFailTopic.equals(topic))
+            paymentService.replayRollbacks(events);
+        else
+            paymentService.replayPayments(events);
+    }
+
+}
@@ -0,0 +1,13 @@
+package br.com.microservices.choreography.paymentservice.core.dto;
+
+public record PaymentAuthorization(boolean approved, String message) {
+
+    public static PaymentAuthorization approved(String message){
+        return new PaymentAuthorization(true, message);
+    }
+
+    public static PaymentAuthorization declined(String message){
+        return new PaymentAuthorization(false, message);
+    }
+
+}
@@ -0,0 +1,4 @@
+package br.com.microservices.choreography.paymentservice.core.dto;
+
+public record PaymentAuthorizationRequest(String orderId, String transactionId, long amountCents) {
+}
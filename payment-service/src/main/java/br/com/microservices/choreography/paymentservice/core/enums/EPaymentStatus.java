@@ -4,6 +4,7 @@ public enum EPaymentStatus {
 
     PENDING,
     SUCCESS,
-    REFUND;
+    REFUND,
+    DECLINED;
 
 }
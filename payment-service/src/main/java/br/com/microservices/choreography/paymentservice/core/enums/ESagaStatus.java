@@ -1,9 +0,0 @@
-package br.com.microservices.choreography.paymentservice.core.enums;
-
-public enum ESagaStatus {
-
-    SUCCESS,
-    ROLLBACK_PENDING,
-    FAIL;
-
-}
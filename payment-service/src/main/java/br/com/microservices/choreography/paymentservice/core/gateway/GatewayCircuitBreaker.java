@@ -0,0 +1,45 @@
+package br.com.microservices.choreography.paymentservice.core.gateway;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class GatewayCircuitBreaker {
+
+    private static final long CLOSED = Long.MIN_VALUE;
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong(CLOSED);
+    private final AtomicBoolean probing = new AtomicBoolean();
+
+    public GatewayCircuitBreaker(int failureThreshold, Duration openDuration){
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+    }
+
+    public boolean tryAcquire(){
+        var opened = openedAt.get();
+        if(opened == CLOSED)
+            return true;
+        if(System.nanoTime() - opened < openNanos)
+            return false;
+        return probing.compareAndSet(false, true);
+    }
+
+    public void onSuccess(){
+        consecutiveFailures.set(0);
+        openedAt.set(CLOSED);
+        probing.set(false);
+    }
+
+    public void onFailure(){
+        if(consecutiveFailures.incrementAndGet() >= failureThreshold || probing.get()){
+            openedAt.set(System.nanoTime());
+            probing.set(false);
+        }
+    }
+
+}
@@ -0,0 +1,12 @@
+package br.com.microservices.choreography.paymentservice.core.gateway;
+
+import br.com.microservices.choreography.paymentservice.core.dto.PaymentAuthorization;
+import br.com.microservices.choreography.paymentservice.core.dto.PaymentAuthorizationRequest;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface PaymentGateway {
+
+    CompletableFuture<PaymentAuthorization> authorize(PaymentAuthorizationRequest request);
+
+}
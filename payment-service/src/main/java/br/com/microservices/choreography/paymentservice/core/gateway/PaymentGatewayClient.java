@@ -0,0 +1,101 @@
+package br.com.microservices.choreography.paymentservice.core.gateway;
+
+import br.com.microservices.choreography.sagacore.config.exception.ValidationException;
+import br.com.microservices.choreography.paymentservice.core.dto.PaymentAuthorization;
+import br.com.microservices.choreography.paymentservice.core.dto.PaymentAuthorizationRequest;
+import br.com.microservices.choreography.sagacore.core.flow.BackpressureSignal;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+@Slf4j
+@Component
+public class PaymentGatewayClient implements BackpressureSignal {
+
+    private final PaymentGateway gateway;
+    private final Semaphore inFlight;
+    private final int maxInFlight;
+    private final Duration timeout;
+    private final GatewayCircuitBreaker circuitBreaker;
+    private final ExecutorService completionExecutor;
+
+    public PaymentGatewayClient(PaymentGateway gateway,
+                                @Value("${payment.gateway.max-in-flight}") int maxInFlight,
+                                @Value("${payment.gateway.timeout}") Duration timeout,
+                                @Value("${payment.gateway.completion-threads}") int completionThreads,
+                                @Value("${payment.gateway.circuit-breaker.failure-threshold}") int failureThreshold,
+                                @Value("${payment.gateway.circuit-breaker.open-duration}") Duration openDuration){
+        this.gateway = gateway;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.maxInFlight = maxInFlight;
+        this.timeout = timeout;
+        this.circuitBreaker = new GatewayCircuitBreaker(failureThreshold, openDuration);
+        this.completionExecutor = Executors.newFixedThreadPool(completionThreads);
+    }
+
+    public CompletableFuture<PaymentAuthorization> authorize(PaymentAuthorizationRequest request){
+        if(!tryAcquireInFlight())
+            return CompletableFuture.failedFuture(new ValidationException("Payment gateway has no free in-flight slot"));
+        if(!circuitBreaker.tryAcquire()){
+            inFlight.release();
+            return CompletableFuture.failedFuture(new ValidationException("Payment gateway circuit is open"));
+        }
+
+        CompletableFuture<PaymentAuthorization> authorization;
+        try{
+            authorization = gateway.authorize(request).orTimeout(timeout.toNanos(), NANOSECONDS);
+        }catch (Exception e){
+            inFlight.release();
+            circuitBreaker.onFailure();
+            return CompletableFuture.failedFuture(e);
+        }
+        return authorization.whenCompleteAsync((result, error) -> {
+            inFlight.release();
+            if(error == null){
+                circuitBreaker.onSuccess();
+            }else{
+                circuitBreaker.onFailure();
+                log.warn("Payment gateway failed for transaction {}: {}", request.transactionId(), error.toString());
+            }
+        }, completionExecutor);
+    }
+
+    private boolean tryAcquireInFlight(){
+        try{
+            return inFlight.tryAcquire(timeout.toNanos(), NANOSECONDS);
+        }catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public String name(){
+        return "payment-gateway";
+    }
+
+    @Override
+    public boolean isSaturated(){
+        return inFlight.availablePermits() == 0;
+    }
+
+    @Override
+    public boolean isRecovered(){
+        return inFlight.availablePermits() >= maxInFlight / 2;
+    }
+
+    @PreDestroy
+    public void shutdown(){
+        completionExecutor.shutdown();
+    }
+
+}
@@ -0,0 +1,61 @@
+package br.com.microservices.choreography.paymentservice.core.gateway;
+
+import br.com.microservices.choreography.paymentservice.core.dto.PaymentAuthorization;
+import br.com.microservices.choreography.paymentservice.core.dto.PaymentAuthorizationRequest;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "payment.gateway.type", havingValue = "simulated", matchIfMissing = true)
+public class SimulatedPaymentGateway implements PaymentGateway {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    @Value("${payment.gateway.simulated.base-latency}")
+    private Duration baseLatency;
+
+    @Value("${payment.gateway.simulated.latency-jitter}")
+    private Duration latencyJitter;
+
+    @Value("${payment.gateway.simulated.decline-rate}")
+    private double declineRate;
+
+    @Value("${payment.gateway.simulated.error-rate}")
+    private double errorRate;
+
+    @Override
+    public CompletableFuture<PaymentAuthorization> authorize(PaymentAuthorizationRequest request){
+        var random = ThreadLocalRandom.current();
+        var latency = baseLatency.toNanos() + (long) (-Math.log(1.0 - random.nextDouble()) * latencyJitter.toNanos());
+        var outcome = random.nextDouble();
+        var authorization = new CompletableFuture<PaymentAuthorization>();
+        scheduler.schedule(() -> {
+            if(outcome < errorRate)
+                authorization.completeExceptionally(
+                        new IllegalStateException("Simulated gateway error for transaction ".concat(request.transactionId())));
+            else if(outcome < errorRate + declineRate)
+                authorization.complete(PaymentAuthorization.declined("Simulated decline"));
+            else
+                authorization.complete(PaymentAuthorization.approved("Simulated approval"));
+        }, latency, NANOSECONDS);
+        return authorization;
+    }
+
+    @PreDestroy
+    public void shutdown(){
+        scheduler.shutdownNow();
+    }
+
+}
@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Data
@@ -14,20 +15,21 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "payment")
+@Table(name = "payment", uniqueConstraints = @UniqueConstraint(
+        name = "uk_payment_order_transaction", columnNames = {"order_id", "transaction_id"}))
 public class Payment {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Integer id;
+    private Long id;
     @Column(nullable = false)
     private String orderId;
     @Column(nullable = false)
     private String transactionId;
     @Column(nullable = false)
     private int totalItems;
-    @Column(nullable = false)
-    private double totalAmount;
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalAmount;
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private EPaymentStatus status;
@@ -36,14 +38,6 @@ public class Payment {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
-    @PrePersist
-    public void prePersist(){
-        var now = LocalDateTime.now();
-        createdAt = now;
-        updatedAt = now;
-        status = EPaymentStatus.PENDING;
-    }
-
     @PreUpdate
     public void preUpdate(){
         updatedAt = LocalDateTime.now();
@@ -0,0 +1,20 @@
+package br.com.microservices.choreography.paymentservice.core.repository;
+
+import br.com.microservices.choreography.sagacore.core.dto.OrderTransactionKey;
+import br.com.microservices.choreography.paymentservice.core.enums.EPaymentStatus;
+import br.com.microservices.choreography.paymentservice.core.model.Payment;
+
+import java.util.List;
+import java.util.Set;
+
+public interface PaymentJdbcRepository {
+
+    boolean insertIfAbsent(Payment payment);
+
+    Set<OrderTransactionKey> insertAllIfAbsent(List<Payment> payments);
+
+    boolean completePending(Payment payment, EPaymentStatus status);
+
+    int updateStatusByOrderIdAndTransactionId(EPaymentStatus status, List<OrderTransactionKey> keys);
+
+}
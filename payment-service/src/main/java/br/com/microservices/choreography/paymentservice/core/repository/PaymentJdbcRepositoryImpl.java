@@ -0,0 +1,122 @@
+package br.com.microservices.choreography.paymentservice.core.repository;
+
+import br.com.microservices.choreography.sagacore.core.dto.OrderTransactionKey;
+import br.com.microservices.choreography.paymentservice.core.enums.EPaymentStatus;
+import br.com.microservices.choreography.paymentservice.core.model.Payment;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@RequiredArgsConstructor
+public class PaymentJdbcRepositoryImpl implements PaymentJdbcRepository {
+
+    private static final String INSERT_IF_ABSENT = """
+            INSERT INTO payment (order_id, transaction_id, total_items, total_amount, status, created_at, updated_at)
+            VALUES (:orderId, :transactionId, :totalItems, :totalAmount, :status, :createdAt, :updatedAt)
+            ON CONFLICT (order_id, transaction_id) DO NOTHING
+            RETURNING id
+            """;
+
+    private static final String INSERT_ALL_IF_ABSENT = """
+            INSERT INTO payment (order_id, transaction_id, total_items, total_amount, status, created_at, updated_at)
+            SELECT p.*, :now, :now
+              FROM (VALUES :rows) AS p (order_id, transaction_id, total_items, total_amount, status)
+            ON CONFLICT (order_id, transaction_id) DO NOTHING
+            RETURNING order_id, transaction_id
+            """;
+
+    private static final String COMPLETE_PENDING = """
+            UPDATE payment
+               SET status = :status, updated_at = :updatedAt
+             WHERE order_id = :orderId
+               AND transaction_id = :transactionId
+               AND status = 'PENDING'
+            """;
+
+    private static final String UPDATE_STATUS_BY_KEYS = """
+            UPDATE payment
+               SET status = :status, updated_at = :updatedAt
+             WHERE (order_id, transaction_id) IN (:keys)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean insertIfAbsent(Payment payment){
+        var now = LocalDateTime.now();
+        payment.setCreatedAt(now);
+        payment.setUpdatedAt(now);
+        var params = new MapSqlParameterSource()
+                .addValue("orderId", payment.getOrderId())
+                .addValue("transactionId", payment.getTransactionId())
+                .addValue("totalItems", payment.getTotalItems())
+                .addValue("totalAmount", payment.getTotalAmount())
+                .addValue("status", payment.getStatus().name())
+                .addValue("createdAt", now)
+                .addValue("updatedAt", now);
+        var ids = jdbcTemplate.queryForList(INSERT_IF_ABSENT, params, Long.class);
+        if(ids.isEmpty())
+            return false;
+        payment.setId(ids.get(0));
+        return true;
+    }
+
+    @Override
+    public Set<OrderTransactionKey> insertAllIfAbsent(List<Payment> payments){
+        if(payments.isEmpty())
+            return new HashSet<>();
+        var now = LocalDateTime.now();
+        var params = new MapSqlParameterSource()
+                .addValue("now", now)
+                .addValue("rows", payments
+                        .stream()
+                        .map(payment -> new Object[]{
+                                payment.getOrderId(),
+                                payment.getTransactionId(),
+                                payment.getTotalItems(),
+                                payment.getTotalAmount(),
+                                payment.getStatus().name()})
+                        .toList());
+        payments.forEach(payment -> {
+            payment.setCreatedAt(now);
+            payment.setUpdatedAt(now);
+        });
+        return new HashSet<>(jdbcTemplate.query(INSERT_ALL_IF_ABSENT, params, (resultSet, row) ->
+                new OrderTransactionKey(resultSet.getString("order_id"), resultSet.getString("transaction_id"))));
+    }
+
+    @Override
+    public boolean completePending(Payment payment, EPaymentStatus status){
+        var now = LocalDateTime.now();
+        var params = new MapSqlParameterSource()
+                .addValue("orderId", payment.getOrderId())
+                .addValue("transactionId", payment.getTransactionId())
+                .addValue("status", status.name())
+                .addValue("updatedAt", now);
+        if(jdbcTemplate.update(COMPLETE_PENDING, params) == 0)
+            return false;
+        payment.setStatus(status);
+        payment.setUpdatedAt(now);
+        return true;
+    }
+
+    @Override
+    public int updateStatusByOrderIdAndTransactionId(EPaymentStatus status, List<OrderTransactionKey> keys){
+        if(keys.isEmpty())
+            return 0;
+        var params = new MapSqlParameterSource()
+                .addValue("status", status.name())
+                .addValue("updatedAt", LocalDateTime.now())
+                .addValue("keys", keys
+                        .stream()
+                        .map(key -> new Object[]{key.orderId(), key.transactionId()})
+                        .toList());
+        return jdbcTemplate.update(UPDATE_STATUS_BY_KEYS, params);
+    }
+
+}
@@ -3,11 +3,13 @@ package br.com.microservices.choreography.paymentservice.core.repository;
 import br.com.microservices.choreography.paymentservice.core.model.Payment;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface PaymentRepository extends JpaRepository<Payment, Integer> {
+public interface PaymentRepository extends JpaRepository<Payment, Long>, PaymentJdbcRepository {
 
-    Boolean existsByOrderIdAndTransactionId(String orderId, String transactionId);
     Optional<Payment> findByOrderIdAndTransactionId(String orderId, String transactionId);
+    List<Payment> findByTransactionIdIn(Collection<String> transactionIds);
 
 }
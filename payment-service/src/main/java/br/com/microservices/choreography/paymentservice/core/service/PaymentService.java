@@ -1,94 +1,210 @@
 package br.com.microservices.choreography.paymentservice.core.service;
 
-import br.com.microservices.choreography.paymentservice.config.exception.ValidationException;
-import br.com.microservices.choreography.paymentservice.core.dto.History;
-import br.com.microservices.choreography.paymentservice.core.dto.OrderProduct;
+import br.com.microservices.choreography.sagacore.config.exception.ValidationException;
+import br.com.microservices.choreography.sagacore.core.claimcheck.ClaimCheckResolver;
+import br.com.microservices.choreography.sagacore.core.dto.History;
+import br.com.microservices.choreography.sagacore.core.dto.OrderTransactionKey;
+import br.com.microservices.choreography.paymentservice.core.dto.PaymentAuthorization;
+import br.com.microservices.choreography.paymentservice.core.dto.PaymentAuthorizationRequest;
+import br.com.microservices.choreography.paymentservice.core.gateway.PaymentGatewayClient;
 import br.com.microservices.choreography.paymentservice.core.enums.EPaymentStatus;
-import br.com.microservices.choreography.paymentservice.core.enums.ESagaStatus;
-import br.com.microservices.choreography.paymentservice.core.producer.KafkaProducer;
+import br.com.microservices.choreography.sagacore.core.enums.ESagaStatus;
+import br.com.microservices.choreography.sagacore.core.producer.KafkaProducer;
 import br.com.microservices.choreography.paymentservice.core.repository.PaymentRepository;
-import br.com.microservices.choreography.paymentservice.core.dto.Event;
+import br.com.microservices.choreography.sagacore.core.dto.Event;
 import br.com.microservices.choreography.paymentservice.core.model.Payment;
-import br.com.microservices.choreography.paymentservice.core.saga.SagaExecutionController;
-import br.com.microservices.choreography.paymentservice.core.utils.JsonUtil;
-import lombok.AllArgsConstructor;
+import br.com.microservices.choreography.sagacore.core.saga.SagaExecutionController;
+import br.com.microservices.choreography.sagacore.core.utils.JsonUtil;
+import br.com.microservices.choreography.sagacore.core.utils.OrderTotals;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.springframework.util.ObjectUtils.isEmpty;
 
 @Service
 @Slf4j
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class PaymentService {
 
     private static final String CURRENT_SOURCE = "PAYMENT_SERVICE";
-    private static Double REDUCE_SUM_VALUE = 0.0;
-    private static Double MIN_AMOUNT_VALUE = 0.01;
+    private static final long MIN_AMOUNT_CENTS = 1L;
+    private static final int RETRY_MAX_ATTEMPTS = 4;
+    private static final long RETRY_INITIAL_INTERVAL = 1000L;
+    private static final long RETRY_MAX_INTERVAL = 30000L;
 
     private final SagaExecutionController sagaExecutionController;
     private final PaymentRepository paymentRepository;
+    private final PaymentGatewayClient paymentGatewayClient;
+    private final ClaimCheckResolver claimCheckResolver;
+
+    @Value("${saga.kafka.exactly-once}")
+    private boolean exactlyOnce;
 
-    public void realizePayment(Event event){
+    @Value("${payment.pending-timeout}")
+    private Duration pendingTimeout;
+
+    public CompletableFuture<Void> realizePayment(Event event){
+        claimCheckResolver.claimProducts(event);
         try{
-            checkCurrentValidation(event);
-            createPendingPayment(event);
-            var payment = findByOrderIdAndTransactionId(event);
-            validateAmount(payment.getTotalAmount());
-            changePaymentToSuccess(payment);
-            handleSuccess(event);
+            var totals = OrderTotals.of(event.getPayload().getProducts());
+            var payment = createPayment(event, totals);
+            if(!paymentRepository.insertIfAbsent(payment))
+                return handleDuplicate(event, payment, totals);
+            return authorizePayment(event, payment, totals);
+        }catch (TransientDataAccessException | DataAccessResourceFailureException e){
+            log.error("Transient database error trying to make payment, sending to retry: ", e);
+            throw e;
         }catch (Exception e){
             log.error("Error trying to make payment: ", e);
             handleFailCurrentNotExecuted(event, e.getMessage());
+            return sagaExecutionController.handleSaga(event);
         }
-        sagaExecutionController.handleSaga(event);
     }
 
-    private void checkCurrentValidation(Event event) {
-        if (paymentRepository.existsByOrderIdAndTransactionId(event.getOrderId(), event.getTransactionId()))
-            throw new ValidationException("There is another transactionId for this validation");
+    private CompletableFuture<Void> authorizePayment(Event event, Payment payment, OrderTotals totals){
+        var authorization = totals.totalCents() < MIN_AMOUNT_CENTS
+                ? CompletableFuture.completedFuture(PaymentAuthorization.declined(minimumAmountMessage()))
+                : paymentGatewayClient.authorize(new PaymentAuthorizationRequest(
+                        payment.getOrderId(), payment.getTransactionId(), totals.totalCents()));
+        if(exactlyOnce)
+            return awaitPayment(event, payment, authorization);
+        return authorization
+                .handle((result, error) -> completePaymentWithRetry(event, payment, result, error, 1))
+                .thenCompose(Function.identity());
+    }
+
+    private CompletableFuture<Void> handleDuplicate(Event event, Payment payment, OrderTotals totals){
+        var stored = findStoredPayment(payment);
+        if(stored.getStatus() != EPaymentStatus.PENDING)
+            return republishPayment(event, stored);
+        if(stored.getUpdatedAt().isAfter(LocalDateTime.now().minus(pendingTimeout))){
+            log.info("Payment for transaction {} is still being authorized by another delivery",
+                    payment.getTransactionId());
+            return CompletableFuture.completedFuture(null);
+        }
+        log.warn("Resuming payment for transaction {} left pending since {}",
+                payment.getTransactionId(), stored.getUpdatedAt());
+        return authorizePayment(event, payment, totals);
+    }
+
+    private Payment findStoredPayment(Payment payment){
+        return paymentRepository
+                .findByOrderIdAndTransactionId(payment.getOrderId(), payment.getTransactionId())
+                .orElseThrow(() -> new ValidationException("Payment not found by orderId and transactionId"));
+    }
+
+    private Optional<History> findDecline(Event event){
+        if(isEmpty(event.getEventHistory()))
+            return Optional.empty();
+        return event.getEventHistory()
+                .stream()
+                .filter(history -> CURRENT_SOURCE.equals(history.getSource())
+                        && ESagaStatus.ROLLBACK_PENDING.equals(history.getStatus()))
+                .reduce((first, second) -> second);
+    }
+
+    private CompletableFuture<Void> republishPayment(Event event, Payment payment){
+        if(payment.getStatus() != EPaymentStatus.SUCCESS){
+            log.info("Ignoring redelivered payment for transaction {} with status {}",
+                    payment.getTransactionId(), payment.getStatus());
+            return CompletableFuture.completedFuture(null);
+        }
+        setEventAmountItems(event, payment);
+        handleSuccess(event);
+        return sagaExecutionController.handleSaga(event);
+    }
+
+    private CompletableFuture<Void> awaitPayment(Event event, Payment payment,
+                                                 CompletableFuture<PaymentAuthorization> authorization){
+        try{
+            return completePayment(event, payment, authorization.join(), null);
+        }catch (CompletionException | CancellationException e){
+            return completePayment(event, payment, null, e);
+        }
     }
 
-    private void createPendingPayment(Event event){
-        var totalAmount = calculateAmount(event);
-        var totalItems = calculateTotalItems(event);
+    private CompletableFuture<Void> completePaymentWithRetry(Event event, Payment payment,
+                                                             PaymentAuthorization authorization,
+                                                             Throwable error, int attempt){
+        try{
+            return completePayment(event, payment, authorization, error);
+        }catch (TransientDataAccessException | DataAccessResourceFailureException e){
+            if(attempt >= RETRY_MAX_ATTEMPTS)
+                return CompletableFuture.failedFuture(e);
+            var delay = Math.min(RETRY_INITIAL_INTERVAL << (attempt - 1), RETRY_MAX_INTERVAL);
+            log.warn("Transient database error completing payment for transaction {}, retrying in {} ms",
+                    payment.getTransactionId(), delay);
+            return CompletableFuture
+                    .supplyAsync(() -> completePaymentWithRetry(event, payment, authorization, error, attempt + 1),
+                            CompletableFuture.delayedExecutor(delay, MILLISECONDS))
+                    .thenCompose(Function.identity());
+        }
+    }
+
+    private CompletableFuture<Void> completePayment(Event event, Payment payment,
+                                                    PaymentAuthorization authorization, Throwable error){
+        try{
+            var approved = isEmpty(error) && authorization.approved();
+            var status = approved ? EPaymentStatus.SUCCESS : EPaymentStatus.DECLINED;
+            if(!paymentRepository.completePending(payment, status))
+                return republishPayment(event, findStoredPayment(payment));
+            checkAuthorization(authorization, error);
+            handleSuccess(event);
+        }catch (TransientDataAccessException | DataAccessResourceFailureException e){
+            log.error("Transient database error trying to make payment, sending to retry: ", e);
+            throw e;
+        }catch (Exception e){
+            log.error("Error trying to make payment: ", e);
+            handleFailCurrentNotExecuted(event, e.getMessage());
+        }
+        return sagaExecutionController.handleSaga(event);
+    }
 
+    private Payment createPayment(Event event, OrderTotals totals){
         var payment = Payment.builder()
                 .orderId(event.getPayload().getId())
                 .transactionId(event.getTransactionId())
-                .totalAmount(totalAmount)
-                .totalItems(totalItems)
+                .totalAmount(totals.totalAmount())
+                .totalItems(totals.totalItems())
+                .status(EPaymentStatus.PENDING)
                 .build();
-        save(payment);
         setEventAmountItems(event, payment);
+        return payment;
     }
 
-    private double calculateAmount(Event event){
-        return event
-                .getPayload()
-                .getProducts()
-                .stream()
-                .map(product -> product.getQuantity() * product.getProduct().getUnitValue())
-                .reduce(REDUCE_SUM_VALUE, Double::sum);
-    }
-
-    private int calculateTotalItems(Event event){
-        return event
-                .getPayload()
-                .getProducts()
-                .stream()
-                .map(OrderProduct::getQuantity)
-                .reduce(REDUCE_SUM_VALUE.intValue(), Integer::sum);
+    private void checkAuthorization(PaymentAuthorization authorization, Throwable error){
+        if(!isEmpty(error)){
+            var cause = error instanceof CompletionException ? error.getCause() : error;
+            throw new ValidationException("Payment gateway unavailable: ".concat(cause.toString()));
+        }
+        if(!authorization.approved())
+            throw new ValidationException("Payment not authorized: ".concat(authorization.message()));
     }
 
     private void setEventAmountItems(Event event, Payment payment){
-        event.getPayload().setTotalAmount(payment.getTotalAmount());
+        event.getPayload().setTotalAmount(payment.getTotalAmount().doubleValue());
         event.getPayload().setTotalItems(payment.getTotalItems());
     }
 
-    private void validateAmount(double amount){
-        if(amount < MIN_AMOUNT_VALUE)
-            throw new ValidationException("The minimum amount available is ".concat(MIN_AMOUNT_VALUE.toString()));
+    private String minimumAmountMessage(){
+        return "The minimum amount available is ".concat(OrderTotals.toAmount(MIN_AMOUNT_CENTS).toPlainString());
     }
 
     private void handleSuccess(Event event) {
@@ -109,11 +225,6 @@ public class PaymentService {
         event.addToHistory(history);
     }
 
-    private void changePaymentToSuccess(Payment payment){
-        payment.setStatus(EPaymentStatus.SUCCESS);
-        save(payment);
-    }
-
     private void handleFailCurrentNotExecuted (Event event, String message){
         event.setStatus(ESagaStatus.ROLLBACK_PENDING);
         event.setSource(CURRENT_SOURCE);
@@ -121,32 +232,130 @@ public class PaymentService {
     }
 
     public void realizeRefund(Event event){
-        event.setStatus(ESagaStatus.FAIL);
-        event.setSource(CURRENT_SOURCE);
-        try{
-            changePaymentStatusToRefund(event);
+        realizeRefunds(List.of(event));
+    }
+
+    public void realizeRefunds(List<Event> events){
+        var payments = findPaymentsByOrderIdAndTransactionId(events);
+        var refunds = new ArrayList<OrderTransactionKey>(events.size());
+        events.forEach(event -> {
+            event.setStatus(ESagaStatus.FAIL);
+            event.setSource(CURRENT_SOURCE);
+            var key = new OrderTransactionKey(event.getOrderId(), event.getTransactionId());
+            var payment = payments.get(key);
+            if(isEmpty(payment) || payment.getStatus() != EPaymentStatus.SUCCESS){
+                addHistory(event, "Rollback not executed for payment: No realized payment found by OrderId and TransactionId");
+                return;
+            }
+            setEventAmountItems(event, payment);
+            refunds.add(key);
             addHistory(event, "Rollback executed for payment.");
-        }catch (ValidationException e){
-            addHistory(event, "Rollback not executed for payment: ".concat(e.getMessage()));
+        });
+        var refunded = paymentRepository.updateStatusByOrderIdAndTransactionId(EPaymentStatus.REFUND, refunds);
+        log.info("Refunded {} payments from {} rollback events", refunded, events.size());
+        events.forEach(sagaExecutionController::handleSaga);
+    }
+
+    public void replayPayments(List<Event> events){
+        var payments = new ArrayList<Payment>(events.size());
+        var paymentEvents = new ArrayList<Event>(events.size());
+        claimCheckResolver.claimProducts(events, this::failUnclaimed).forEach(event -> {
+            try{
+                var totals = OrderTotals.of(event.getPayload().getProducts());
+                var payment = createPayment(event, totals);
+                payment.setStatus(totals.totalCents() < MIN_AMOUNT_CENTS || findDecline(event).isPresent()
+                        ? EPaymentStatus.DECLINED
+                        : EPaymentStatus.SUCCESS);
+                payments.add(payment);
+                paymentEvents.add(event);
+            }catch (Exception e){
+                log.error("Error trying to replay payment: ", e);
+                handleFailCurrentNotExecuted(event, e.getMessage());
+                sagaExecutionController.handleSaga(event);
+            }
+        });
+        var inserted = paymentRepository.insertAllIfAbsent(payments);
+        var duplicates = new ArrayList<Event>();
+        for (int index = 0, size = payments.size(); index < size; index++) {
+            var payment = payments.get(index);
+            var event = paymentEvents.get(index);
+            if(!inserted.remove(new OrderTransactionKey(payment.getOrderId(), payment.getTransactionId()))){
+                duplicates.add(event);
+                continue;
+            }
+            if(payment.getStatus() == EPaymentStatus.SUCCESS)
+                handleSuccess(event);
+            else
+                handleFailCurrentNotExecuted(event, "Payment not authorized: ".concat(findDecline(event)
+                        .map(History::getMessage)
+                        .orElseGet(this::minimumAmountMessage)));
+            sagaExecutionController.handleSaga(event);
         }
-        sagaExecutionController.handleSaga(event);
+        var stored = findPaymentsByOrderIdAndTransactionId(duplicates);
+        duplicates.forEach(event -> {
+            var payment = stored.get(new OrderTransactionKey(event.getPayload().getId(), event.getTransactionId()));
+            if(!isEmpty(payment))
+                republishPayment(event, payment);
+        });
+        log.info("Replayed {} payments, {} already stored", payments.size(), duplicates.size());
     }
 
-    private void changePaymentStatusToRefund(Event event){
-        var payment = findByOrderIdAndTransactionId(event);
-        payment.setStatus(EPaymentStatus.REFUND);
-        setEventAmountItems(event, payment);
-        save(payment);
+    public void replayRollbacks(List<Event> events){
+        var declines = events
+                .stream()
+                .collect(Collectors.partitioningBy(event -> findDecline(event).isPresent()));
+        restoreDeclines(declines.get(true));
+        realizeRefunds(declines.get(false));
     }
 
-    private Payment findByOrderIdAndTransactionId(Event event){
-        return paymentRepository.findByOrderIdAndTransactionId(event.getOrderId(), event.getTransactionId())
-                .orElseThrow(
-                        () -> new ValidationException("Payment not found by OrderId and TransactionId"));
+    private void restoreDeclines(List<Event> events){
+        events.forEach(this::claimDeclinedProducts);
+        var payments = events
+                .stream()
+                .map(event -> {
+                    var payment = createPayment(event, OrderTotals.of(event.getPayload().getProducts()));
+                    payment.setStatus(EPaymentStatus.DECLINED);
+                    return payment;
+                })
+                .toList();
+        var inserted = paymentRepository.insertAllIfAbsent(payments);
+        var existing = payments
+                .stream()
+                .map(payment -> new OrderTransactionKey(payment.getOrderId(), payment.getTransactionId()))
+                .filter(key -> !inserted.contains(key))
+                .distinct()
+                .toList();
+        paymentRepository.updateStatusByOrderIdAndTransactionId(EPaymentStatus.DECLINED, existing);
+        log.info("Restored {} declined payments from rollback events", events.size());
     }
 
-    private void save(Payment payment){
-        paymentRepository.save(payment);
+    private void claimDeclinedProducts(Event event){
+        try{
+            claimCheckResolver.claimProducts(event);
+        }catch (Exception e){
+            log.warn("Restoring declined payment for transaction {} without its claimed products: {}",
+                    event.getTransactionId(), e.getMessage());
+        }
+    }
+
+    private void failUnclaimed(Event event, ValidationException e){
+        log.error("Error trying to claim order products: ", e);
+        handleFailCurrentNotExecuted(event, e.getMessage());
+        sagaExecutionController.handleSaga(event);
+    }
+
+    private Map<OrderTransactionKey, Payment> findPaymentsByOrderIdAndTransactionId(List<Event> events){
+        var transactionIds = events
+                .stream()
+                .map(Event::getTransactionId)
+                .collect(Collectors.toSet());
+        return paymentRepository
+                .findByTransactionIdIn(transactionIds)
+                .stream()
+                .collect(Collectors.toMap(
+                        payment -> new OrderTransactionKey(payment.getOrderId(), payment.getTransactionId()),
+                        Function.identity(),
+                        (first, second) -> first));
     }
 
 }
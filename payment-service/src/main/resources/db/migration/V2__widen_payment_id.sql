@@ -0,0 +1 @@
+ALTER TABLE payment ALTER COLUMN id TYPE BIGINT;
@@ -0,0 +1 @@
+ALTER TABLE payment ALTER COLUMN total_amount TYPE NUMERIC(19, 2);
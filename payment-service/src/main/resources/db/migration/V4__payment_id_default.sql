@@ -0,0 +1,2 @@
+ALTER SEQUENCE payment_seq INCREMENT BY 1 OWNED BY payment.id;
+ALTER TABLE payment ALTER COLUMN id SET DEFAULT nextval('payment_seq');
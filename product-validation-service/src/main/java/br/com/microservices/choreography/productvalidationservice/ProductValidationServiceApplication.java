@@ -3,7 +3,10 @@ package br.com.microservices.choreography.productvalidationservice;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
-@SpringBootApplication
+@SpringBootApplication(scanBasePackages = {
+		"br.com.microservices.choreography.productvalidationservice",
+		"br.com.microservices.choreography.sagacore"
+})
 public class ProductValidationServiceApplication {
 
 	public static void main(String[] args) {
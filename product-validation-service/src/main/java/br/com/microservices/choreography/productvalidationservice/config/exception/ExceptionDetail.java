@@ -1,4 +0,0 @@
-package br.com.microservices.choreography.productvalidationservice.config.exception;
-
-public record ExceptionDetail(int status, String message) {
-}
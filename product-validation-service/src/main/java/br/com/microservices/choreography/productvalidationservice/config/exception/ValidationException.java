@@ -1,13 +0,0 @@
-package br.com.microservices.choreography.productvalidationservice.config.exception;
-
-import org.springframework.http.HttpStatus;
-import org.springframework.web.bind.annotation.ResponseStatus;
-
-@ResponseStatus(HttpStatus.BAD_REQUEST)
-public class ValidationException extends RuntimeException{
-
-    public ValidationException(String message){
-        super(message);
-    }
-
-}
@@ -1,23 +1,34 @@
 package br.com.microservices.choreography.productvalidationservice.core.consumer;
 
+import br.com.microservices.choreography.sagacore.config.exception.ValidationException;
+import br.com.microservices.choreography.sagacore.core.consumer.KeyOrderedDispatcher;
+import br.com.microservices.choreography.sagacore.core.dto.Event;
 import br.com.microservices.choreography.productvalidationservice.core.service.ProductValidationService;
-import br.com.microservices.choreography.productvalidationservice.core.utils.JsonUtil;
+import br.com.microservices.choreography.sagacore.core.utils.JsonUtil;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Slf4j
 @AllArgsConstructor
 @Component
 public class ProductValidationConsumer {
 
     private final JsonUtil jsonUtil;
+    private final KeyOrderedDispatcher dispatcher;
     private final ProductValidationService productValidationService;
 
     @KafkaListener(
         groupId = "${spring.kafka.consumer.group-id}",
-        topics = "${spring.kafka.topic.product-validation-start}")
+        topics = "${spring.kafka.topic.product-validation-start}",
+        autoStartup = "#{!${saga.parallel-consumer.enabled}}")
     public void consumeSuccessEvent(String payload){
         log.info("Receiving success event {} from product-validation-start topic",
                 payload);
@@ -26,13 +37,50 @@ public class ProductValidationConsumer {
     }
 
     @KafkaListener(
-            groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.product-validation-fail}")
-    public void consumeFailEvent(String payload){
-        log.info("Receiving rollback event {} from product-validation-fail topic",
+        id = "product-validation-priority",
+        groupId = "${spring.kafka.consumer.group-id}",
+        topics = "${spring.kafka.topic.product-validation-start}${saga.priority-lanes.suffix}",
+        concurrency = "${saga.priority-lanes.concurrency}",
+        autoStartup = "${saga.priority-lanes.enabled}")
+    public void consumePriorityStartEvent(String payload){
+        log.info("Receiving priority start event {} from product-validation-start priority topic",
                 payload);
         var event = jsonUtil.toEvent(payload);
-        productValidationService.rollbackEvent(event);
+        productValidationService.validateExistingProducts(event);
+    }
+
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.product-validation-start}",
+            containerFactory = "parallelListenerContainerFactory",
+            autoStartup = "${saga.parallel-consumer.enabled}",
+            properties = "max.poll.records=${saga.parallel-consumer.batch-size}")
+    public void consumeSuccessEventInParallel(ConsumerRecord<String, String> record, Acknowledgment acknowledgment){
+        log.info("Receiving success event {} from product-validation-start topic",
+                record.value());
+        dispatcher.dispatch(record, acknowledgment, jsonUtil::toEvent, Event::getTransactionId, productValidationService::validateExistingProducts);
+    }
+
+    @KafkaListener(
+            id = "product-validation-compensation",
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.product-validation-fail}",
+            concurrency = "${saga.compensation.concurrency}",
+            containerFactory = "batchListenerContainerFactory",
+            properties = "max.poll.records=${spring.kafka.consumer.rollback-batch-size}")
+    public void consumeFailEvents(List<String> payloads){
+        log.info("Receiving {} rollback events from product-validation-fail topic",
+                payloads.size());
+        var events = new ArrayList<Event>(payloads.size());
+        for (var index = 0; index < payloads.size(); index++) {
+            try{
+                events.add(jsonUtil.toEvent(payloads.get(index)));
+            }catch (ValidationException e){
+                productValidationService.rollbackEvents(events);
+                throw new BatchListenerFailedException(e.getMessage(), e, index);
+            }
+        }
+        productValidationService.rollbackEvents(events);
     }
 
 }
@@ -0,0 +1,45 @@
+package br.com.microservices.choreography.productvalidationservice.core.consumer;
+
+import br.com.microservices.choreography.productvalidationservice.core.service.ProductValidationService;
+import br.com.microservices.choreography.sagacore.core.replay.ReplayPayloads;
+import br.com.microservices.choreography.sagacore.core.replay.SagaReplayHandler;
+import br.com.microservices.choreography.sagacore.core.utils.JsonUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class ProductValidationReplayHandler implements SagaReplayHandler {
+
+    private final JsonUtil jsonUtil;
+    private final ProductValidationService productValidationService;
+
+    @Value("${spring.kafka.topic.product-validation-start}")
+    private String productValidationStartTopic;
+
+    @Value("${spring.kafka.topic.product-validation-fail}")
+    private String productValidationFailTopic;
+
+    @Value("${saga.priority-lanes.suffix}")
+    private String priorityLaneSuffix;
+
+    @Override
+    public boolean supports(String topic){
+        return productValidationStartTopic.equals(topic)
+                || productValidationStartTopic.concat(priorityLaneSuffix).equals(topic)
+                || productValidationFailTopic.equals(topic);
+    }
+
+    @Override
+    public void replay(String topic, List<String> payloads){
+        var events = ReplayPayloads.parse(topic, payloads, jsonUtil::toEvent);
+        if(productValidationFailTopic.equals(topic))
+            productValidationService.rollbackEvents(events);
+        else
+            productValidationService.validateExistingProducts(events);
+    }
+
+}
@@ -1,22 +0,0 @@
-package br.com.microservices.choreography.productvalidationservice.core.dto;
-
-import br.com.microservices.choreography.productvalidationservice.core.enums.ESagaStatus;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-import java.time.LocalDateTime;
-
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-@Builder
-public class History {
-
-    private String source;
-    private ESagaStatus status;
-    private String message;
-    private LocalDateTime createdAt;
-
-}
@@ -1,9 +0,0 @@
-package br.com.microservices.choreography.productvalidationservice.core.enums;
-
-public enum ESagaStatus {
-
-    SUCCESS,
-    ROLLBACK_PENDING,
-    FAIL;
-
-}
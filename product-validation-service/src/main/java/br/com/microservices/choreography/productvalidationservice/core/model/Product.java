@@ -11,7 +11,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @Entity
 @Builder
-@Table(name = "product")
+@Table(name = "product", uniqueConstraints = @UniqueConstraint(
+        name = "uk_product_code", columnNames = "code"))
 public class Product {
 
     @Id
@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "validation")
+@Table(name = "validation", uniqueConstraints = @UniqueConstraint(
+        name = "uk_validation_order_transaction", columnNames = {"order_id", "transaction_id"}))
 public class Validation {
 
     @Id
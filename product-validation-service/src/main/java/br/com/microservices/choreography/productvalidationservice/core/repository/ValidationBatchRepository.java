@@ -0,0 +1,17 @@
+package br.com.microservices.choreography.productvalidationservice.core.repository;
+
+import br.com.microservices.choreography.productvalidationservice.core.model.Validation;
+import br.com.microservices.choreography.sagacore.core.dto.OrderTransactionKey;
+
+import java.util.List;
+import java.util.Set;
+
+public interface ValidationBatchRepository {
+
+    boolean insertIfAbsent(String orderId, String transactionId, boolean success);
+
+    Set<OrderTransactionKey> insertAllIfAbsent(List<Validation> validations);
+
+    int markFailed(List<OrderTransactionKey> keys);
+
+}
@@ -0,0 +1,79 @@
+package br.com.microservices.choreography.productvalidationservice.core.repository;
+
+import br.com.microservices.choreography.productvalidationservice.core.model.Validation;
+import br.com.microservices.choreography.sagacore.core.dto.OrderTransactionKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@RequiredArgsConstructor
+public class ValidationBatchRepositoryImpl implements ValidationBatchRepository {
+
+    private static final String INSERT_IF_ABSENT = """
+            INSERT INTO validation (order_id, transaction_id, success, created_at, updated_at)
+            VALUES (:orderId, :transactionId, :success, :now, :now)
+            ON CONFLICT (order_id, transaction_id) DO NOTHING
+            """;
+
+    private static final String INSERT_ALL_IF_ABSENT = """
+            INSERT INTO validation (order_id, transaction_id, success, created_at, updated_at)
+            SELECT v.*, :now, :now
+              FROM (VALUES :rows) AS v (order_id, transaction_id, success)
+            ON CONFLICT (order_id, transaction_id) DO NOTHING
+            RETURNING order_id, transaction_id
+            """;
+
+    private static final String MARK_FAILED = """
+            INSERT INTO validation (order_id, transaction_id, success, created_at, updated_at)
+            SELECT k.order_id, k.transaction_id, false, :now, :now
+              FROM (VALUES :keys) AS k (order_id, transaction_id)
+            ON CONFLICT (order_id, transaction_id) DO UPDATE
+               SET success = false, updated_at = EXCLUDED.updated_at
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean insertIfAbsent(String orderId, String transactionId, boolean success){
+        var params = new MapSqlParameterSource()
+                .addValue("orderId", orderId)
+                .addValue("transactionId", transactionId)
+                .addValue("success", success)
+                .addValue("now", LocalDateTime.now());
+        return jdbcTemplate.update(INSERT_IF_ABSENT, params) > 0;
+    }
+
+    @Override
+    public Set<OrderTransactionKey> insertAllIfAbsent(List<Validation> validations){
+        if(validations.isEmpty())
+            return new HashSet<>();
+        var params = new MapSqlParameterSource()
+                .addValue("now", LocalDateTime.now())
+                .addValue("rows", validations
+                        .stream()
+                        .map(validation -> new Object[]{
+                                validation.getOrderId(), validation.getTransactionId(), validation.isSuccess()})
+                        .toList());
+        return new HashSet<>(jdbcTemplate.query(INSERT_ALL_IF_ABSENT, params, (resultSet, row) ->
+                new OrderTransactionKey(resultSet.getString("order_id"), resultSet.getString("transaction_id"))));
+    }
+
+    @Override
+    public int markFailed(List<OrderTransactionKey> keys){
+        if(keys.isEmpty())
+            return 0;
+        var params = new MapSqlParameterSource()
+                .addValue("now", LocalDateTime.now())
+                .addValue("keys", keys
+                        .stream()
+                        .map(key -> new Object[]{key.orderId(), key.transactionId()})
+                        .toList());
+        return jdbcTemplate.update(MARK_FAILED, params);
+    }
+
+}
@@ -3,12 +3,14 @@ package br.com.microservices.choreography.productvalidationservice.core.reposito
 import br.com.microservices.choreography.productvalidationservice.core.model.Validation;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface ValidationRepository extends JpaRepository<Validation, Integer> {
-
-    Boolean existsByOrderIdAndTransactionId(String orderId, String transactionId);
+public interface ValidationRepository extends JpaRepository<Validation, Integer>, ValidationBatchRepository {
 
     Optional<Validation> findByOrderIdAndTransactionId(String orderId, String transactionId);
 
+    List<Validation> findByTransactionIdIn(Collection<String> transactionIds);
+
 }
@@ -1,21 +1,31 @@
 package br.com.microservices.choreography.productvalidationservice.core.service;
 
-import br.com.microservices.choreography.productvalidationservice.core.dto.Event;
-import br.com.microservices.choreography.productvalidationservice.core.dto.History;
-import br.com.microservices.choreography.productvalidationservice.core.dto.OrderProduct;
-import br.com.microservices.choreography.productvalidationservice.core.enums.ESagaStatus;
-import br.com.microservices.choreography.productvalidationservice.config.exception.ValidationException;
+import br.com.microservices.choreography.sagacore.core.claimcheck.ClaimCheckResolver;
+import br.com.microservices.choreography.sagacore.core.dto.Event;
+import br.com.microservices.choreography.sagacore.core.dto.History;
+import br.com.microservices.choreography.sagacore.core.dto.OrderProduct;
+import br.com.microservices.choreography.sagacore.core.dto.OrderTransactionKey;
+import br.com.microservices.choreography.sagacore.core.enums.ESagaStatus;
+import br.com.microservices.choreography.sagacore.config.exception.ValidationException;
+import br.com.microservices.choreography.sagacore.core.producer.KafkaProducer;
 import br.com.microservices.choreography.productvalidationservice.core.model.Validation;
-import br.com.microservices.choreography.productvalidationservice.core.producer.KafkaProducer;
 import br.com.microservices.choreography.productvalidationservice.core.repository.ProductRepository;
 import br.com.microservices.choreography.productvalidationservice.core.repository.ValidationRepository;
-import br.com.microservices.choreography.productvalidationservice.core.saga.SagaExecutionController;
-import br.com.microservices.choreography.productvalidationservice.core.utils.JsonUtil;
+import br.com.microservices.choreography.sagacore.core.saga.SagaExecutionController;
+import br.com.microservices.choreography.sagacore.core.utils.JsonUtil;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import static org.springframework.util.ObjectUtils.isEmpty;
 
@@ -28,12 +38,24 @@ public class ProductValidationService {
     private final SagaExecutionController sagaExecutionController;
     private final ProductRepository productRepository;
     private final ValidationRepository validationRepository;
+    private final ClaimCheckResolver claimCheckResolver;
 
     public void validateExistingProducts(Event event){
+        claimCheckResolver.claimProducts(event);
         try{
-            checkCurrentValidation(event);
-            createValidation(event, true);
-            handleSuccess(event);
+            validaProductsInformed(event);
+            var failure = findValidationFailure(event, productRepository::existsByCode);
+            if(!validationRepository.insertIfAbsent(event.getPayload().getId(), event.getTransactionId(), failure.isEmpty())){
+                republishValidation(event);
+                return;
+            }
+            if(failure.isEmpty())
+                handleSuccess(event);
+            else
+                handleFailCurrentNotExecuted(event, failure.get());
+        }catch (TransientDataAccessException | DataAccessResourceFailureException e){
+            log.error("Transient database error trying to validation products, sending to retry: ", e);
+            throw e;
         }catch (Exception e){
             log.error("Error trying to validation products: ", e);
             handleFailCurrentNotExecuted(event, e.getMessage());
@@ -41,6 +63,89 @@ public class ProductValidationService {
         sagaExecutionController.handleSaga(event);
     }
 
+    public void validateExistingProducts(List<Event> events){
+        var existingCodes = new HashMap<String, Boolean>();
+        var validations = new ArrayList<Validation>(events.size());
+        var validated = new ArrayList<Event>(events.size());
+        var failures = new ArrayList<Optional<String>>(events.size());
+        claimCheckResolver.claimProducts(events, this::failUnclaimed).forEach(event -> {
+            try{
+                validaProductsInformed(event);
+                var failure = findValidationFailure(event,
+                        code -> existingCodes.computeIfAbsent(code, productRepository::existsByCode));
+                validations.add(Validation
+                        .builder()
+                        .orderId(event.getPayload().getId())
+                        .transactionId(event.getTransactionId())
+                        .success(failure.isEmpty())
+                        .build());
+                validated.add(event);
+                failures.add(failure);
+            }catch (Exception e){
+                log.error("Error trying to validation products: ", e);
+                handleFailCurrentNotExecuted(event, e.getMessage());
+                sagaExecutionController.handleSaga(event);
+            }
+        });
+        var inserted = validationRepository.insertAllIfAbsent(validations);
+        var duplicates = new ArrayList<Event>();
+        for (int index = 0, size = validated.size(); index < size; index++) {
+            var event = validated.get(index);
+            if(!inserted.remove(new OrderTransactionKey(event.getPayload().getId(), event.getTransactionId()))){
+                duplicates.add(event);
+                continue;
+            }
+            var failure = failures.get(index);
+            if(failure.isEmpty())
+                handleSuccess(event);
+            else
+                handleFailCurrentNotExecuted(event, failure.get());
+            sagaExecutionController.handleSaga(event);
+        }
+        var stored = validationRepository
+                .findByTransactionIdIn(duplicates.stream().map(Event::getTransactionId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(
+                        validation -> new OrderTransactionKey(validation.getOrderId(), validation.getTransactionId()),
+                        Validation::isSuccess));
+        duplicates.forEach(event -> {
+            if(Boolean.TRUE.equals(stored.get(new OrderTransactionKey(event.getPayload().getId(), event.getTransactionId())))){
+                handleSuccess(event);
+                sagaExecutionController.handleSaga(event);
+            }
+        });
+        log.info("Validated {} events, {} already stored", validated.size(), duplicates.size());
+    }
+
+    private void failUnclaimed(Event event, ValidationException e){
+        log.error("Error trying to claim order products: ", e);
+        handleFailCurrentNotExecuted(event, e.getMessage());
+        sagaExecutionController.handleSaga(event);
+    }
+
+    private Optional<String> findValidationFailure(Event event, Predicate<String> existsByCode){
+        try{
+            checkCurrentValidation(event, existsByCode);
+            return Optional.empty();
+        }catch (ValidationException e){
+            log.error("Error trying to validation products: ", e);
+            return Optional.of(e.getMessage());
+        }
+    }
+
+    private void republishValidation(Event event){
+        var stored = validationRepository
+                .findByOrderIdAndTransactionId(event.getPayload().getId(), event.getTransactionId())
+                .orElseThrow(() -> new ValidationException("Validation not found by orderId and transactionId"));
+        if(!stored.isSuccess()){
+            log.info("Ignoring redelivered validation for transaction {} that already failed or was rolled back",
+                    event.getTransactionId());
+            return;
+        }
+        handleSuccess(event);
+        sagaExecutionController.handleSaga(event);
+    }
+
     private void validaProductsInformed(Event event) {
         if(isEmpty(event.getPayload()) || isEmpty(event.getPayload().getProducts()))
             throw new ValidationException("Product list is empty");
@@ -50,14 +155,10 @@ public class ProductValidationService {
 
     }
 
-    private void checkCurrentValidation(Event event) {
-        validaProductsInformed(event);
-        if (validationRepository.existsByOrderIdAndTransactionId(event.getOrderId(), event.getTransactionId()))
-            throw new ValidationException("There is another transactionId for this validation");
-
+    private void checkCurrentValidation(Event event, Predicate<String> existsByCode) {
         event.getPayload().getProducts().forEach(product -> {
             validateProductInformed(product);
-            validateExistingProduct(product.getProduct().getCode());
+            validateExistingProduct(product.getProduct().getCode(), existsByCode);
         });
 
     }
@@ -67,21 +168,11 @@ public class ProductValidationService {
             throw new ValidationException("Product must be informed");
     }
 
-    private void validateExistingProduct(String code){
-        if(!productRepository.existsByCode(code))
+    private void validateExistingProduct(String code, Predicate<String> existsByCode){
+        if(!existsByCode.test(code))
             throw new ValidationException("Product does not exist in database.");
     }
 
-    private void createValidation(Event event, boolean success){
-        var validation = Validation
-                .builder()
-                .orderId(event.getPayload().getId())
-                .transactionId(event.getTransactionId())
-                .success(success)
-                .build();
-        validationRepository.save(validation);
-    }
-
     private void handleSuccess(Event event) {
 
         event.setStatus(ESagaStatus.SUCCESS);
@@ -107,19 +198,27 @@ public class ProductValidationService {
     }
 
     public void rollbackEvent(Event event){
-        changeValidationToFail(event);
-        event.setStatus(ESagaStatus.FAIL);
-        event.setSource(CURRENT_SOURCE);
-        addHistory(event, "Rollback executed on product validation.");
-        sagaExecutionController.handleSaga(event);
+        rollbackEvents(List.of(event));
+    }
+
+    public void rollbackEvents(List<Event> events){
+        changeValidationsToFail(events);
+        events.forEach(event -> {
+            event.setStatus(ESagaStatus.FAIL);
+            event.setSource(CURRENT_SOURCE);
+            addHistory(event, "Rollback executed on product validation.");
+            sagaExecutionController.handleSaga(event);
+        });
     }
 
-    private void changeValidationToFail(Event event) {
-        validationRepository.findByOrderIdAndTransactionId(event.getPayload().getId(),
-                event.getTransactionId()).ifPresentOrElse(validation -> {
-                    validation.setSuccess(false);
-                    validationRepository.save(validation);
-                    }, () -> createValidation(event, false));
+    private void changeValidationsToFail(List<Event> events) {
+        var keys = events
+                .stream()
+                .map(event -> new OrderTransactionKey(event.getPayload().getId(), event.getTransactionId()))
+                .distinct()
+                .toList();
+        var changed = validationRepository.markFailed(keys);
+        log.info("Validations changed to fail: {} rows from {} rollback events", changed, events.size());
     }
 
 }
@@ -0,0 +1,2 @@
+ALTER SEQUENCE validation_seq INCREMENT BY 1 OWNED BY validation.id;
+ALTER TABLE validation ALTER COLUMN id SET DEFAULT nextval('validation_seq');
@@ -1,4 +0,0 @@
-INSERT INTO public.product (id, code) VALUES (1, 'COMIC_BOOKS');
-INSERT INTO public.product (id, code) VALUES (2, 'BOOKS');
-INSERT INTO public.product (id, code) VALUES (3, 'MOVIES');
-INSERT INTO public.product (id, code) VALUES (4, 'MUSIC');
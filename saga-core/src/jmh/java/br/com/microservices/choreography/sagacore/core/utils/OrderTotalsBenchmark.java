@@ -0,0 +1,71 @@
+package br.com.microservices.choreography.sagacore.core.utils;
+
+import br.com.microservices.choreography.sagacore.core.dto.OrderProduct;
+import br.com.microservices.choreography.sagacore.core.dto.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderTotalsBenchmark {
+
+    @Param({"3", "50", "1000"})
+    private int lines;
+
+    private List<OrderProduct> products;
+
+    @Setup
+    public void setup(){
+        var random = ThreadLocalRandom.current();
+        products = new ArrayList<>(lines);
+        for (int index = 0; index < lines; index++) {
+            var unitValue = random.nextInt(1, 100_000) / 100.0;
+            products.add(new OrderProduct(new Product("PRODUCT_" + index, unitValue), random.nextInt(1, 10)));
+        }
+    }
+
+    @Benchmark
+    public void doubleStreams(Blackhole blackhole){
+        blackhole.consume(products
+            .stream()
+            .map(product -> product.getQuantity() * product.getProduct().getUnitValue())
+            .reduce(0.0, Double::sum));
+        blackhole.consume(products
+            .stream()
+            .map(OrderProduct::getQuantity)
+            .reduce(0, Integer::sum));
+    }
+
+    @Benchmark
+    public void bigDecimal(Blackhole blackhole){
+        var totalAmount = BigDecimal.ZERO;
+        var totalItems = 0;
+        for (var product : products) {
+            totalAmount = totalAmount.add(BigDecimal.valueOf(product.getProduct().getUnitValue())
+                .multiply(BigDecimal.valueOf(product.getQuantity())));
+            totalItems += product.getQuantity();
+        }
+        blackhole.consume(totalAmount);
+        blackhole.consume(totalItems);
+    }
+
+    @Benchmark
+    public OrderTotals longCents(){
+        return OrderTotals.of(products);
+    }
+
+}
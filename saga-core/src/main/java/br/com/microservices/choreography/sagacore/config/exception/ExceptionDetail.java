@@ -0,0 +1,4 @@
+package br.com.microservices.choreography.sagacore.config.exception;
+
+public record ExceptionDetail(int status, String message) {
+}
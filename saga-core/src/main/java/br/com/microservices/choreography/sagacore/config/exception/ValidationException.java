@@ -1,4 +1,4 @@
-package br.com.microservices.choreography.orderservice.config.exception;
+package br.com.microservices.choreography.sagacore.config.exception;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
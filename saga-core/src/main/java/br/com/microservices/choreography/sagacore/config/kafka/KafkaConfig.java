@@ -0,0 +1,204 @@
+package br.com.microservices.choreography.sagacore.config.kafka;
+
+import br.com.microservices.choreography.sagacore.config.exception.ValidationException;
+import br.com.microservices.choreography.sagacore.core.consumer.LaneMetrics;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.*;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationBuilder;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+import org.springframework.kafka.transaction.KafkaAwareTransactionManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@EnableKafka
+@Configuration
+@RequiredArgsConstructor
+public class KafkaConfig {
+
+    private static final Integer PARTITION_COUNT = 1;
+    private static final Integer REPLICA_COUNT = 1;
+    private static final String READ_COMMITTED = "read_committed";
+    private static final String RETRY_TOPIC_SUFFIX = ".RETRY";
+    private static final String DLT_SUFFIX = ".DLT";
+    private static final int RETRY_MAX_ATTEMPTS = 4;
+    private static final long RETRY_INITIAL_INTERVAL = 1000L;
+    private static final double RETRY_MULTIPLIER = 2.0;
+    private static final long RETRY_MAX_INTERVAL = 30000L;
+
+    private final SagaKafkaProperties properties;
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+    @Value("${spring.kafka.consumer.group-id}")
+    private String groupId;
+    @Value("${spring.kafka.consumer.auto-offset-reset}")
+    private String autoOffsetReset;
+    @Value("${saga.parallel-consumer.enabled:false}")
+    private boolean parallelConsumer;
+
+    @Bean
+    public ConsumerFactory<String, String> consumerFactory(){
+        return new DefaultKafkaConsumerFactory<>(consumerProps());
+    }
+
+    private Map<String, Object> consumerProps(){
+        var props = new HashMap<String, Object>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, autoOffsetReset);
+        if(properties.isExactlyOnce())
+            props.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, READ_COMMITTED);
+
+        return props;
+    }
+
+    @Bean
+    public ProducerFactory<String, String> producerFactory(){
+        var producerFactory = new DefaultKafkaProducerFactory<String, String>(producerProps());
+        if(properties.isExactlyOnce())
+            producerFactory.setTransactionIdPrefix(properties.getTransactionIdPrefix());
+        return producerFactory;
+    }
+
+    private Map<String, Object> producerProps() {
+        var props = new HashMap<String, Object>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.LINGER_MS_CONFIG, properties.getProducerLinger().toMillis());
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, Math.toIntExact(properties.getProducerBatchSize().toBytes()));
+        return props;
+    }
+
+    @Bean
+    public KafkaTemplate<String, String> kafkaTemplate(ProducerFactory<String, String> producerFactory){
+        var kafkaTemplate = new KafkaTemplate<>(producerFactory);
+        kafkaTemplate.setAllowNonTransactional(true);
+        return kafkaTemplate;
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory(
+            ConsumerFactory<String, String> consumerFactory,
+            ObjectProvider<KafkaAwareTransactionManager<?, ?>> kafkaTransactionManager,
+            ObjectProvider<LaneMetrics> laneMetrics){
+        var factory = new ConcurrentKafkaListenerContainerFactory<String, String>();
+        factory.setConsumerFactory(consumerFactory);
+        kafkaTransactionManager.ifAvailable(factory.getContainerProperties()::setTransactionManager);
+        laneMetrics.ifAvailable(factory::setRecordInterceptor);
+        return factory;
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> batchListenerContainerFactory(
+            ConsumerFactory<String, String> consumerFactory, KafkaTemplate<String, String> kafkaTemplate,
+            ObjectProvider<KafkaAwareTransactionManager<?, ?>> kafkaTransactionManager,
+            ObjectProvider<LaneMetrics> laneMetrics){
+        var factory = new ConcurrentKafkaListenerContainerFactory<String, String>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setBatchListener(true);
+        factory.setCommonErrorHandler(batchErrorHandler(kafkaTemplate));
+        kafkaTransactionManager.ifAvailable(factory.getContainerProperties()::setTransactionManager);
+        laneMetrics.ifAvailable(factory::setBatchInterceptor);
+        return factory;
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> manualAckListenerContainerFactory(
+            ConsumerFactory<String, String> consumerFactory,
+            ObjectProvider<KafkaAwareTransactionManager<?, ?>> kafkaTransactionManager,
+            ObjectProvider<LaneMetrics> laneMetrics){
+        var factory = new ConcurrentKafkaListenerContainerFactory<String, String>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setAsyncAcks(!properties.isExactlyOnce());
+        kafkaTransactionManager.ifAvailable(factory.getContainerProperties()::setTransactionManager);
+        laneMetrics.ifAvailable(factory::setRecordInterceptor);
+        return factory;
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> parallelListenerContainerFactory(
+            ConsumerFactory<String, String> consumerFactory){
+        var factory = new ConcurrentKafkaListenerContainerFactory<String, String>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setAsyncAcks(true);
+        return factory;
+    }
+
+    @Bean
+    public DeadLetterPublishingRecoverer deadLetterPublishingRecoverer(KafkaTemplate<String, String> kafkaTemplate){
+        return new DeadLetterPublishingRecoverer(kafkaTemplate);
+    }
+
+    private DefaultErrorHandler batchErrorHandler(KafkaTemplate<String, String> kafkaTemplate){
+        var backOff = new ExponentialBackOffWithMaxRetries(RETRY_MAX_ATTEMPTS - 1);
+        backOff.setInitialInterval(RETRY_INITIAL_INTERVAL);
+        backOff.setMultiplier(RETRY_MULTIPLIER);
+        backOff.setMaxInterval(RETRY_MAX_INTERVAL);
+        var errorHandler = new DefaultErrorHandler(new DeadLetterPublishingRecoverer(kafkaTemplate), backOff);
+        errorHandler.addNotRetryableExceptions(ValidationException.class);
+        return errorHandler;
+    }
+
+    @Bean
+    public RetryTopicConfiguration retryTopicConfiguration(KafkaTemplate<String, String> kafkaTemplate){
+        var builder = RetryTopicConfigurationBuilder
+                .newInstance()
+                .exponentialBackoff(RETRY_INITIAL_INTERVAL, RETRY_MULTIPLIER, RETRY_MAX_INTERVAL)
+                .maxAttempts(RETRY_MAX_ATTEMPTS)
+                .retryOn(List.of(TransientDataAccessException.class, DataAccessResourceFailureException.class))
+                .retryTopicSuffix(RETRY_TOPIC_SUFFIX)
+                .dltSuffix(DLT_SUFFIX)
+                .autoCreateTopicsWith(PARTITION_COUNT, REPLICA_COUNT.shortValue());
+        var excludedTopics = retryExcludedTopics();
+        if(!excludedTopics.isEmpty())
+            builder.excludeTopics(excludedTopics);
+        return builder.create(kafkaTemplate);
+    }
+
+    private List<String> retryExcludedTopics(){
+        var topics = new ArrayList<>(properties.getRetryExcludedTopics());
+        if(parallelConsumer)
+            topics.addAll(properties.getParallelConsumerTopics());
+        return topics;
+    }
+
+    @Bean
+    public KafkaAdmin.NewTopics sagaTopics(){
+        return new KafkaAdmin.NewTopics(properties
+                .getTopics()
+                .stream()
+                .map(name -> TopicBuilder
+                        .name(name)
+                        .replicas(REPLICA_COUNT)
+                        .partitions(PARTITION_COUNT)
+                        .build())
+                .toArray(NewTopic[]::new));
+    }
+
+}
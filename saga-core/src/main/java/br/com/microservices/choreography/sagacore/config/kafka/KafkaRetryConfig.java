@@ -0,0 +1,37 @@
+package br.com.microservices.choreography.sagacore.config.kafka;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationSupport;
+import org.springframework.kafka.retrytopic.RetryTopicSchedulerWrapper;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+public class KafkaRetryConfig extends RetryTopicConfigurationSupport {
+
+    private static final int BLOCKING_MAX_RETRIES = 3;
+    private static final long BLOCKING_INITIAL_INTERVAL = 200L;
+    private static final double BLOCKING_MULTIPLIER = 2.0;
+    private static final long BLOCKING_MAX_INTERVAL = 2000L;
+
+    @Override
+    protected void configureBlockingRetries(BlockingRetriesConfigurer blockingRetries) {
+        var backOff = new ExponentialBackOffWithMaxRetries(BLOCKING_MAX_RETRIES);
+        backOff.setInitialInterval(BLOCKING_INITIAL_INTERVAL);
+        backOff.setMultiplier(BLOCKING_MULTIPLIER);
+        backOff.setMaxInterval(BLOCKING_MAX_INTERVAL);
+        blockingRetries
+                .retryOn(ConcurrencyFailureException.class)
+                .backOff(backOff);
+    }
+
+    @Bean
+    public RetryTopicSchedulerWrapper retryTopicSchedulerWrapper(){
+        var scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("retry-topic-");
+        return new RetryTopicSchedulerWrapper(scheduler);
+    }
+
+}
@@ -0,0 +1,45 @@
+package br.com.microservices.choreography.sagacore.config.kafka;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.transaction.KafkaTransactionManager;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+/**
+ * Exactly-once mode is best-effort one-phase commit: the JPA transaction commits before the
+ * Kafka transaction, so a crash in between redelivers the record. Participants treat that
+ * redelivery as a duplicate and re-publish the outcome already stored for the transaction.
+ * Only sends made on the listener thread join the Kafka transaction, so startup fails when the
+ * parallel consumer or the journal transport would send from other threads.
+ */
+@Configuration
+@ConditionalOnProperty(name = "saga.kafka.exactly-once", havingValue = "true")
+public class KafkaTransactionConfig {
+
+    public KafkaTransactionConfig(@Value("${saga.parallel-consumer.enabled:false}") boolean parallelConsumer,
+                                  @Value("${saga.transport.type:kafka}") String transportType){
+        if(parallelConsumer)
+            throw new IllegalStateException(
+                    "saga.kafka.exactly-once cannot be combined with saga.parallel-consumer.enabled.");
+        if(!"kafka".equals(transportType))
+            throw new IllegalStateException(
+                    "saga.kafka.exactly-once requires saga.transport.type=kafka, not " + transportType + ".");
+    }
+
+    @Bean
+    public KafkaTransactionManager<?, ?> kafkaTransactionManager(ProducerFactory<String, String> producerFactory){
+        return new KafkaTransactionManager<>(producerFactory);
+    }
+
+    @Bean
+    @Primary
+    public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory){
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+
+}
@@ -0,0 +1,25 @@
+package br.com.microservices.choreography.sagacore.config.kafka;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "saga.kafka")
+public class SagaKafkaProperties {
+
+    private boolean exactlyOnce;
+    private String transactionIdPrefix;
+    private List<String> topics = new ArrayList<>();
+    private List<String> retryExcludedTopics = new ArrayList<>();
+    private List<String> parallelConsumerTopics = new ArrayList<>();
+    private Duration producerLinger = Duration.ofMillis(5);
+    private DataSize producerBatchSize = DataSize.ofKilobytes(64);
+
+}
@@ -0,0 +1,19 @@
+package br.com.microservices.choreography.sagacore.config.saga;
+
+import br.com.microservices.choreography.sagacore.core.enums.ESagaStatus;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "saga")
+public class SagaRoutingProperties {
+
+    private Map<ESagaStatus, List<String>> routing = new EnumMap<>(ESagaStatus.class);
+
+}
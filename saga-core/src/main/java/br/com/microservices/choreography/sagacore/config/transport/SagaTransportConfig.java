@@ -0,0 +1,81 @@
+package br.com.microservices.choreography.sagacore.config.transport;
+
+import br.com.microservices.choreography.sagacore.core.enums.EJournalSyncPolicy;
+import br.com.microservices.choreography.sagacore.core.journal.JournalDrainer;
+import br.com.microservices.choreography.sagacore.core.journal.SagaJournal;
+import br.com.microservices.choreography.sagacore.core.producer.ProducerMetrics;
+import br.com.microservices.choreography.sagacore.core.transport.InProcessEventBus;
+import br.com.microservices.choreography.sagacore.core.transport.InProcessListenerBridge;
+import br.com.microservices.choreography.sagacore.core.transport.InProcessSagaTransport;
+import br.com.microservices.choreography.sagacore.core.transport.JournalSagaTransport;
+import br.com.microservices.choreography.sagacore.core.transport.KafkaSagaTransport;
+import br.com.microservices.choreography.sagacore.core.transport.SagaTransport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Configuration
+public class SagaTransportConfig {
+
+    private static final String TRANSPORT_TYPE = "saga.transport.type";
+    private static final String IN_PROCESS = "in-process";
+    private static final String JOURNAL = "journal";
+
+    @Bean
+    @ConditionalOnProperty(name = TRANSPORT_TYPE, havingValue = "kafka", matchIfMissing = true)
+    public SagaTransport kafkaSagaTransport(KafkaTemplate<String, String> kafkaTemplate,
+                                            ProducerMetrics producerMetrics){
+        return new KafkaSagaTransport(kafkaTemplate, producerMetrics);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = TRANSPORT_TYPE, havingValue = IN_PROCESS)
+    public InProcessEventBus inProcessEventBus(@Value("${saga.transport.in-process.capacity}") int capacity){
+        return InProcessEventBus.shared(capacity);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = TRANSPORT_TYPE, havingValue = IN_PROCESS)
+    public SagaTransport inProcessSagaTransport(InProcessEventBus bus){
+        return new InProcessSagaTransport(bus);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = TRANSPORT_TYPE, havingValue = IN_PROCESS)
+    public InProcessListenerBridge inProcessListenerBridge(KafkaListenerEndpointRegistry registry,
+                                                           InProcessEventBus bus){
+        return new InProcessListenerBridge(registry, bus);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = TRANSPORT_TYPE, havingValue = JOURNAL)
+    public SagaJournal sagaJournal(@Value("${saga.transport.journal.directory}") String directory,
+                                   @Value("${saga.transport.journal.segment-size}") DataSize segmentSize,
+                                   @Value("${saga.transport.journal.sync-policy}") EJournalSyncPolicy syncPolicy,
+                                   @Value("${saga.transport.journal.sync-interval}") Duration syncInterval){
+        return new SagaJournal(Path.of(directory), Math.toIntExact(segmentSize.toBytes()), syncPolicy, syncInterval);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = TRANSPORT_TYPE, havingValue = JOURNAL)
+    public SagaTransport journalSagaTransport(SagaJournal journal){
+        return new JournalSagaTransport(journal);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = TRANSPORT_TYPE, havingValue = JOURNAL)
+    public JournalDrainer journalDrainer(SagaJournal journal, KafkaTemplate<String, String> kafkaTemplate,
+                                         @Value("${saga.transport.journal.drain-batch-size}") int batchSize,
+                                         @Value("${saga.transport.journal.drain-interval}") Duration drainInterval,
+                                         @Value("${saga.transport.journal.retry-backoff}") Duration retryBackoff){
+        return new JournalDrainer(journal, kafkaTemplate, batchSize, drainInterval, retryBackoff);
+    }
+
+}
@@ -0,0 +1,108 @@
+package br.com.microservices.choreography.sagacore.core.claimcheck;
+
+import br.com.microservices.choreography.sagacore.config.exception.ValidationException;
+import br.com.microservices.choreography.sagacore.core.dto.ClaimCheck;
+import br.com.microservices.choreography.sagacore.core.dto.Event;
+import br.com.microservices.choreography.sagacore.core.dto.OrderProduct;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import static org.springframework.util.CollectionUtils.isEmpty;
+
+@Slf4j
+@Component
+public class ClaimCheckResolver {
+
+    private static final String CLAIM_CHECK_PATH = "/api/claim-check/{reference}";
+    private static final TypeReference<List<OrderProduct>> PRODUCTS = new TypeReference<>() {};
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<String, List<OrderProduct>> cache;
+
+    public ClaimCheckResolver(RestTemplateBuilder restTemplateBuilder,
+                              ObjectMapper objectMapper,
+                              @Value("${saga.claim-check.base-url}") String baseUrl,
+                              @Value("${saga.claim-check.timeout}") Duration timeout,
+                              @Value("${saga.claim-check.cache-size}") int cacheSize){
+        this.restTemplate = restTemplateBuilder
+                .rootUri(baseUrl)
+                .setConnectTimeout(timeout)
+                .setReadTimeout(timeout)
+                .build();
+        this.objectMapper = objectMapper;
+        this.cache = new LinkedHashMap<>(cacheSize, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<OrderProduct>> eldest){
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    public Event claimProducts(Event event){
+        if(event.getClaimCheck() != null && event.getPayload() != null && isEmpty(event.getPayload().getProducts()))
+            event.getPayload().setProducts(resolve(event.getClaimCheck()));
+        return event;
+    }
+
+    public List<Event> claimProducts(List<Event> events, BiConsumer<Event, ValidationException> unclaimed){
+        var claimed = new ArrayList<Event>(events.size());
+        for (var event : events) {
+            try{
+                claimed.add(claimProducts(event));
+            }catch (ValidationException e){
+                unclaimed.accept(event, e);
+            }
+        }
+        return claimed;
+    }
+
+    public List<OrderProduct> resolve(ClaimCheck claimCheck){
+        synchronized (cache) {
+            var cached = cache.get(claimCheck.getHash());
+            if(cached != null)
+                return cached;
+        }
+        var content = fetch(claimCheck);
+        if(content == null || !claimCheck.getHash().equals(ClaimCheck.hash(content)))
+            throw new ValidationException("Claim check payload does not match its hash for reference "
+                    .concat(claimCheck.getReference()));
+        var products = readProducts(content);
+        synchronized (cache) {
+            cache.put(claimCheck.getHash(), products);
+        }
+        log.debug("Claim check {} resolved with {} bytes", claimCheck.getReference(), claimCheck.getSize());
+        return products;
+    }
+
+    private String fetch(ClaimCheck claimCheck){
+        try{
+            return restTemplate.getForObject(CLAIM_CHECK_PATH, String.class, claimCheck.getReference());
+        }catch (HttpClientErrorException.NotFound e){
+            throw new ValidationException("Claim check expired or not found for reference "
+                    .concat(claimCheck.getReference()));
+        }
+    }
+
+    private List<OrderProduct> readProducts(String content){
+        try{
+            return objectMapper.readValue(content, PRODUCTS);
+        }catch (Exception e){
+            throw new ValidationException("Invalid claim check payload: ".concat(e.getMessage()));
+        }
+    }
+
+}
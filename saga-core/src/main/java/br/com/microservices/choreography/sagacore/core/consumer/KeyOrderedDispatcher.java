@@ -0,0 +1,157 @@
+package br.com.microservices.choreography.sagacore.core.consumer;
+
+import br.com.microservices.choreography.sagacore.config.exception.ValidationException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.backoff.BackOff;
+import org.springframework.util.backoff.BackOffExecution;
+import org.springframework.util.backoff.ExponentialBackOff;
+
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Records are acknowledged from the lane that processed them and the container commits offsets
+ * once every earlier record of the partition is acknowledged. Records redelivered after a restart
+ * are absorbed by the participants' idempotent claims.
+ */
+@Slf4j
+@Component
+public class KeyOrderedDispatcher {
+
+    private static final int RETRY_MAX_ATTEMPTS = 4;
+    private static final long RETRY_INITIAL_INTERVAL = 1000L;
+    private static final double RETRY_MULTIPLIER = 2.0;
+    private static final long RETRY_MAX_INTERVAL = 30000L;
+
+    private final ExecutorService[] lanes;
+    private final Semaphore inFlight;
+    private final DeadLetterPublishingRecoverer deadLetterPublishingRecoverer;
+    private final LaneMetrics laneMetrics;
+    private final BackOff retryBackOff;
+    private final BackOff deadLetterBackOff;
+    private volatile boolean running = true;
+
+    public KeyOrderedDispatcher(@Value("${saga.parallel-consumer.concurrency}") int concurrency,
+                                @Value("${saga.parallel-consumer.batch-size}") int maxInFlight,
+                                DeadLetterPublishingRecoverer deadLetterPublishingRecoverer,
+                                LaneMetrics laneMetrics){
+        this.lanes = new ExecutorService[concurrency];
+        for (int lane = 0; lane < concurrency; lane++)
+            lanes[lane] = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("saga-lane-" + lane + "-"));
+        this.inFlight = new Semaphore(maxInFlight);
+        this.deadLetterPublishingRecoverer = deadLetterPublishingRecoverer;
+        this.laneMetrics = laneMetrics;
+        var retryBackOff = new ExponentialBackOffWithMaxRetries(RETRY_MAX_ATTEMPTS - 1);
+        retryBackOff.setInitialInterval(RETRY_INITIAL_INTERVAL);
+        retryBackOff.setMultiplier(RETRY_MULTIPLIER);
+        retryBackOff.setMaxInterval(RETRY_MAX_INTERVAL);
+        this.retryBackOff = retryBackOff;
+        var deadLetterBackOff = new ExponentialBackOff(RETRY_INITIAL_INTERVAL, RETRY_MULTIPLIER);
+        deadLetterBackOff.setMaxInterval(RETRY_MAX_INTERVAL);
+        this.deadLetterBackOff = deadLetterBackOff;
+    }
+
+    public <T> void dispatch(ConsumerRecord<String, String> record, Acknowledgment acknowledgment,
+                             Function<String, T> parser, Function<T, String> keyExtractor, Consumer<T> handler){
+        T value;
+        try{
+            value = parser.apply(record.value());
+        }catch (RuntimeException e){
+            laneMetrics.record(record.topic(), 0, 1, 0L);
+            if(deadLetter(record, e))
+                acknowledgment.acknowledge();
+            return;
+        }
+        inFlight.acquireUninterruptibly();
+        var lane = Math.floorMod(Objects.hashCode(keyExtractor.apply(value)), lanes.length);
+        try{
+            lanes[lane].execute(() -> {
+                try{
+                    if(process(record, value, handler))
+                        acknowledgment.acknowledge();
+                }finally {
+                    inFlight.release();
+                }
+            });
+        }catch (RuntimeException e){
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    private <T> boolean process(ConsumerRecord<String, String> record, T value, Consumer<T> handler){
+        var started = System.nanoTime();
+        var retries = retryBackOff.start();
+        while(true){
+            try{
+                handler.accept(value);
+                laneMetrics.record(record.topic(), 1, 0, System.nanoTime() - started);
+                return true;
+            }catch (RuntimeException e){
+                var cause = e instanceof CompletionException && e.getCause() instanceof RuntimeException runtime
+                        ? runtime : e;
+                var wait = cause instanceof ValidationException ? BackOffExecution.STOP : retries.nextBackOff();
+                if(wait == BackOffExecution.STOP || !running){
+                    laneMetrics.record(record.topic(), 0, 1, System.nanoTime() - started);
+                    return deadLetter(record, cause);
+                }
+                log.warn("Record {}-{}@{} failed, retrying in {}ms: {}",
+                        record.topic(), record.partition(), record.offset(), wait, cause.getMessage());
+                if(!sleep(wait))
+                    return false;
+            }
+        }
+    }
+
+    private boolean deadLetter(ConsumerRecord<String, String> record, Exception cause){
+        log.error("Record {}-{}@{} could not be processed. Sending it to the dead-letter topic.",
+                record.topic(), record.partition(), record.offset(), cause);
+        var retries = deadLetterBackOff.start();
+        while(running){
+            try{
+                deadLetterPublishingRecoverer.accept(record, cause);
+                return true;
+            }catch (Exception e){
+                var wait = retries.nextBackOff();
+                log.error("Error sending record {}-{}@{} to the dead-letter topic, retrying in {}ms.",
+                        record.topic(), record.partition(), record.offset(), wait, e);
+                if(!sleep(wait))
+                    return false;
+            }
+        }
+        log.warn("Record {}-{}@{} was not dead-lettered before shutdown and will be redelivered.",
+                record.topic(), record.partition(), record.offset());
+        return false;
+    }
+
+    private boolean sleep(long millis){
+        try{
+            Thread.sleep(millis);
+            return true;
+        }catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown(){
+        running = false;
+        for (var lane : lanes)
+            lane.shutdown();
+    }
+
+}
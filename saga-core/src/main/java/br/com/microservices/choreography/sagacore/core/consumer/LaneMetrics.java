@@ -0,0 +1,111 @@
+package br.com.microservices.choreography.sagacore.core.consumer;
+
+import br.com.microservices.choreography.sagacore.core.dto.LaneStats;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.kafka.listener.RecordInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class LaneMetrics implements RecordInterceptor<String, String>, BatchInterceptor<String, String> {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final ConcurrentHashMap<String, Lane> lanes = new ConcurrentHashMap<>();
+    private final ThreadLocal<Long> startedAt = new ThreadLocal<>();
+
+    @Override
+    public ConsumerRecord<String, String> intercept(ConsumerRecord<String, String> record,
+                                                    Consumer<String, String> consumer){
+        startedAt.set(System.nanoTime());
+        return record;
+    }
+
+    @Override
+    public void success(ConsumerRecord<String, String> record, Consumer<String, String> consumer){
+        lane(record.topic()).record(1, 0, elapsedNanos());
+    }
+
+    @Override
+    public void failure(ConsumerRecord<String, String> record, Exception exception,
+                        Consumer<String, String> consumer){
+        lane(record.topic()).record(0, 1, elapsedNanos());
+    }
+
+    @Override
+    public ConsumerRecords<String, String> intercept(ConsumerRecords<String, String> records,
+                                                     Consumer<String, String> consumer){
+        startedAt.set(System.nanoTime());
+        return records;
+    }
+
+    @Override
+    public void success(ConsumerRecords<String, String> records, Consumer<String, String> consumer){
+        var elapsed = elapsedNanos();
+        records.partitions().forEach(partition ->
+                lane(partition.topic()).record(records.records(partition).size(), 0, elapsed));
+    }
+
+    @Override
+    public void failure(ConsumerRecords<String, String> records, Exception exception,
+                        Consumer<String, String> consumer){
+        var elapsed = elapsedNanos();
+        records.partitions().forEach(partition ->
+                lane(partition.topic()).record(0, records.records(partition).size(), elapsed));
+    }
+
+    public void record(String topic, int processedRecords, int failedRecords, long elapsedNanos){
+        lane(topic).record(processedRecords, failedRecords, elapsedNanos);
+    }
+
+    public List<LaneStats> snapshot(){
+        return lanes.entrySet()
+                .stream()
+                .map(entry -> entry.getValue().toStats(entry.getKey()))
+                .sorted(Comparator.comparing(LaneStats::getTopic))
+                .toList();
+    }
+
+    private Lane lane(String topic){
+        return lanes.computeIfAbsent(topic, name -> new Lane());
+    }
+
+    private long elapsedNanos(){
+        var start = startedAt.get();
+        startedAt.remove();
+        return start == null ? 0L : System.nanoTime() - start;
+    }
+
+    private static class Lane {
+
+        private final LongAdder processed = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private void record(int processedRecords, int failedRecords, long elapsedNanos){
+            processed.add(processedRecords);
+            failed.add(failedRecords);
+            invocations.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+        }
+
+        private LaneStats toStats(String topic){
+            var calls = invocations.sum();
+            var average = calls == 0 ? 0.0 : totalNanos.sum() / (double) calls / NANOS_PER_MILLI;
+            return new LaneStats(topic, processed.sum(), failed.sum(), average, maxNanos.get() / NANOS_PER_MILLI);
+        }
+
+    }
+
+}
@@ -0,0 +1,23 @@
+package br.com.microservices.choreography.sagacore.core.controller;
+
+import br.com.microservices.choreography.sagacore.core.dto.DeadLetterReplay;
+import br.com.microservices.choreography.sagacore.core.service.DeadLetterService;
+import lombok.AllArgsConstructor;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/dlt")
+public class DeadLetterController {
+
+    private final DeadLetterService deadLetterService;
+
+    @PostMapping("/{topic}/replay")
+    public DeadLetterReplay replay(@PathVariable String topic){
+        return deadLetterService.replay(topic);
+    }
+
+}
@@ -0,0 +1,24 @@
+package br.com.microservices.choreography.sagacore.core.controller;
+
+import br.com.microservices.choreography.sagacore.core.consumer.LaneMetrics;
+import br.com.microservices.choreography.sagacore.core.dto.LaneStats;
+import lombok.AllArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/saga/lanes")
+public class LaneMetricsController {
+
+    private final LaneMetrics laneMetrics;
+
+    @GetMapping
+    public List<LaneStats> findLanes(){
+        return laneMetrics.snapshot();
+    }
+
+}
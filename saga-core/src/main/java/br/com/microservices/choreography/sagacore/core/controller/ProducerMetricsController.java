@@ -0,0 +1,24 @@
+package br.com.microservices.choreography.sagacore.core.controller;
+
+import br.com.microservices.choreography.sagacore.core.dto.ProducerStats;
+import br.com.microservices.choreography.sagacore.core.producer.ProducerMetrics;
+import lombok.AllArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/saga/producer")
+public class ProducerMetricsController {
+
+    private final ProducerMetrics producerMetrics;
+
+    @GetMapping
+    public List<ProducerStats> findProducerStats(){
+        return producerMetrics.snapshot();
+    }
+
+}
@@ -0,0 +1,31 @@
+package br.com.microservices.choreography.sagacore.core.controller;
+
+import br.com.microservices.choreography.sagacore.core.dto.SagaReplay;
+import br.com.microservices.choreography.sagacore.core.replay.SagaReplayService;
+import lombok.AllArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE_TIME;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/replay")
+public class SagaReplayController {
+
+    private final SagaReplayService sagaReplayService;
+
+    @PostMapping("/{topic}")
+    public SagaReplay replay(@PathVariable String topic,
+                             @RequestParam(required = false) @DateTimeFormat(iso = DATE_TIME) LocalDateTime from,
+                             @RequestParam(required = false) @DateTimeFormat(iso = DATE_TIME) LocalDateTime to){
+        return sagaReplayService.replay(topic, from, to);
+    }
+
+}
@@ -0,0 +1,25 @@
+package br.com.microservices.choreography.sagacore.core.controller;
+
+import br.com.microservices.choreography.sagacore.core.enums.ESagaStatus;
+import br.com.microservices.choreography.sagacore.core.saga.SagaRouter;
+import lombok.AllArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/saga/routing")
+public class SagaRoutingController {
+
+    private final SagaRouter sagaRouter;
+
+    @GetMapping
+    public Map<ESagaStatus, List<String>> findRoutes(){
+        return sagaRouter.currentRoutes();
+    }
+
+}
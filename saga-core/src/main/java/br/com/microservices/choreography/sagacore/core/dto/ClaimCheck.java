@@ -0,0 +1,35 @@
+package br.com.microservices.choreography.sagacore.core.dto;
+
+import br.com.microservices.choreography.sagacore.config.exception.ValidationException;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClaimCheck {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private String reference;
+    private String hash;
+    private int size;
+
+    public static String hash(String content){
+        try{
+            return HexFormat.of().formatHex(MessageDigest.getInstance(HASH_ALGORITHM).digest(content.getBytes(UTF_8)));
+        }catch (NoSuchAlgorithmException e){
+            throw new ValidationException("Claim check hash algorithm not available: ".concat(HASH_ALGORITHM));
+        }
+    }
+
+}
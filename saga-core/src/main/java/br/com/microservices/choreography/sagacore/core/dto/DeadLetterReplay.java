@@ -0,0 +1,16 @@
+package br.com.microservices.choreography.sagacore.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeadLetterReplay {
+
+    private String topic;
+    private String deadLetterTopic;
+    private int replayedRecords;
+
+}
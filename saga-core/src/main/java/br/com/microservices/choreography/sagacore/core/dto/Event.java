@@ -1,6 +1,6 @@
-package br.com.microservices.choreography.productvalidationservice.core.dto;
+package br.com.microservices.choreography.sagacore.core.dto;
 
-import br.com.microservices.choreography.productvalidationservice.core.enums.ESagaStatus;
+import br.com.microservices.choreography.sagacore.core.enums.ESagaStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,13 +15,14 @@ import static org.springframework.util.CollectionUtils.isEmpty;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class Event {
 
     private String id;
     private String transactionId;
     private String orderId;
     private Order payload;
+    private ClaimCheck claimCheck;
     private String source;
     private ESagaStatus status;
     private List<History> eventHistory;
@@ -34,4 +35,3 @@ public class Event {
     }
 
 }
-
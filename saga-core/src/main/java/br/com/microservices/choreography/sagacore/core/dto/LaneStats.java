@@ -0,0 +1,18 @@
+package br.com.microservices.choreography.sagacore.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LaneStats {
+
+    private String topic;
+    private long processedRecords;
+    private long failedRecords;
+    private double averageInvocationMillis;
+    private double maxInvocationMillis;
+
+}
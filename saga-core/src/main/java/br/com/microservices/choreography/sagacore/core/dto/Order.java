@@ -1,5 +1,6 @@
-package br.com.microservices.choreography.paymentservice.core.dto;
+package br.com.microservices.choreography.sagacore.core.dto;
 
+import br.com.microservices.choreography.sagacore.core.enums.EOrderPriority;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -11,7 +12,7 @@ import java.util.List;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class Order {
 
     private String id;
@@ -20,5 +21,6 @@ public class Order {
     private String transactionId;
     private double totalAmount;
     private int totalItems;
+    private EOrderPriority priority;
 
 }
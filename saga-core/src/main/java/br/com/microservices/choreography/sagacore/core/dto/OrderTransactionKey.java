@@ -0,0 +1,4 @@
+package br.com.microservices.choreography.sagacore.core.dto;
+
+public record OrderTransactionKey(String orderId, String transactionId) {
+}
@@ -0,0 +1,18 @@
+package br.com.microservices.choreography.sagacore.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProducerStats {
+
+    private String topic;
+    private long sentRecords;
+    private long failedRecords;
+    private double averageAckMillis;
+    private double maxAckMillis;
+
+}
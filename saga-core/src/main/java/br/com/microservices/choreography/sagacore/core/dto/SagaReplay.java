@@ -0,0 +1,18 @@
+package br.com.microservices.choreography.sagacore.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SagaReplay {
+
+    private String topic;
+    private int partitions;
+    private long replayedRecords;
+    private long elapsedMillis;
+    private double recordsPerSecond;
+
+}
@@ -0,0 +1,9 @@
+package br.com.microservices.choreography.sagacore.core.enums;
+
+public enum EJournalSyncPolicy {
+
+    ALWAYS,
+    INTERVAL,
+    OS;
+
+}
@@ -0,0 +1,8 @@
+package br.com.microservices.choreography.sagacore.core.enums;
+
+public enum EOrderPriority {
+
+    STANDARD,
+    PREMIUM;
+
+}
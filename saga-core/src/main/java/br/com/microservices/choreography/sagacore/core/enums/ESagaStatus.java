@@ -1,4 +1,4 @@
-package br.com.microservices.choreography.orderservice.core.enums;
+package br.com.microservices.choreography.sagacore.core.enums;
 
 public enum ESagaStatus {
 
@@ -0,0 +1,11 @@
+package br.com.microservices.choreography.sagacore.core.flow;
+
+public interface BackpressureSignal {
+
+    String name();
+
+    boolean isSaturated();
+
+    boolean isRecovered();
+
+}
@@ -0,0 +1,61 @@
+package br.com.microservices.choreography.sagacore.core.flow;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "saga.flow-control.enabled", havingValue = "true")
+public class HikariBackpressureSignal implements BackpressureSignal {
+
+    private final DataSource dataSource;
+    private final int pauseAwaitingThreads;
+    private final double resumeUtilization;
+    private HikariPoolMXBean pool;
+
+    public HikariBackpressureSignal(DataSource dataSource,
+                                    @Value("${saga.flow-control.hikari.pause-awaiting-threads}") int pauseAwaitingThreads,
+                                    @Value("${saga.flow-control.hikari.resume-utilization}") double resumeUtilization){
+        this.dataSource = dataSource;
+        this.pauseAwaitingThreads = pauseAwaitingThreads;
+        this.resumeUtilization = resumeUtilization;
+    }
+
+    @Override
+    public String name(){
+        return "hikari-pool";
+    }
+
+    @Override
+    public boolean isSaturated(){
+        var pool = pool();
+        return pool != null && pool.getThreadsAwaitingConnection() >= pauseAwaitingThreads;
+    }
+
+    @Override
+    public boolean isRecovered(){
+        var pool = pool();
+        return pool == null
+                || pool.getThreadsAwaitingConnection() == 0
+                && pool.getActiveConnections() <= pool.getTotalConnections() * resumeUtilization;
+    }
+
+    private HikariPoolMXBean pool(){
+        if(pool == null){
+            try{
+                pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+            }catch (SQLException e){
+                log.warn("Flow control disabled for non Hikari data source: {}", e.getMessage());
+            }
+        }
+        return pool;
+    }
+
+}
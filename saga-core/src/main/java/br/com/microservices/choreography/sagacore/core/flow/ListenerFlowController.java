@@ -0,0 +1,96 @@
+package br.com.microservices.choreography.sagacore.core.flow;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "saga.flow-control.enabled", havingValue = "true")
+public class ListenerFlowController {
+
+    private static final String COMPENSATION_LISTENER_SUFFIX = "-compensation";
+
+    private final KafkaListenerEndpointRegistry registry;
+    private final List<BackpressureSignal> signals;
+    private final Duration checkInterval;
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("flow-control-"));
+    private volatile boolean paused;
+
+    public ListenerFlowController(KafkaListenerEndpointRegistry registry,
+                                  List<BackpressureSignal> signals,
+                                  @Value("${saga.flow-control.check-interval}") Duration checkInterval){
+        this.registry = registry;
+        this.signals = signals;
+        this.checkInterval = checkInterval;
+    }
+
+    @PostConstruct
+    public void start(){
+        var interval = checkInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::check, interval, interval, MILLISECONDS);
+    }
+
+    public boolean isPaused(){
+        return paused;
+    }
+
+    private void check(){
+        try{
+            if(!paused){
+                for (var signal : signals) {
+                    if(signal.isSaturated()){
+                        log.warn("Backpressure signal {} saturated. Pausing listener partitions.", signal.name());
+                        pauseAll();
+                        return;
+                    }
+                }
+            } else if(signals.stream().allMatch(BackpressureSignal::isRecovered)){
+                log.info("All backpressure signals recovered. Resuming listener partitions.");
+                resumeAll();
+            }
+        }catch (Exception e){
+            log.error("Error checking backpressure signals: ", e);
+        }
+    }
+
+    private void pauseAll(){
+        registry.getListenerContainers().forEach(container -> {
+            if(container.isRunning() && !isExempt(container.getListenerId())
+                    && container.getAssignedPartitions() != null)
+                container.getAssignedPartitions().forEach(container::pausePartition);
+        });
+        paused = true;
+    }
+
+    private boolean isExempt(String listenerId){
+        return listenerId != null && listenerId.endsWith(COMPENSATION_LISTENER_SUFFIX);
+    }
+
+    private void resumeAll(){
+        registry.getListenerContainers().forEach(container -> {
+            if(container.getAssignedPartitions() != null)
+                container.getAssignedPartitions().forEach(container::resumePartition);
+        });
+        paused = false;
+    }
+
+    @PreDestroy
+    public void shutdown(){
+        scheduler.shutdown();
+    }
+
+}
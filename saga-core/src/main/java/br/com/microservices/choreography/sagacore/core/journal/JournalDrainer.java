@@ -0,0 +1,75 @@
+package br.com.microservices.choreography.sagacore.core.journal;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Publishing is at-least-once: records appended after the last checkpoint are sent again after a crash.
+ * Participants look up the outcome stored for the order and transaction and re-publish it instead of
+ * processing the event twice, rollbacks only restore rows that are not rolled back yet, and the order
+ * service adds history entries as a set.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class JournalDrainer implements SmartLifecycle {
+
+    private final SagaJournal journal;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final int batchSize;
+    private final Duration drainInterval;
+    private final Duration retryBackoff;
+    private volatile boolean running;
+    private Thread worker;
+
+    @Override
+    public void start(){
+        running = true;
+        worker = new Thread(this::drain, "saga-journal-drainer");
+        worker.start();
+    }
+
+    @Override
+    public void stop(){
+        running = false;
+        try{
+            worker.join(retryBackoff.toMillis());
+        }catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning(){
+        return running;
+    }
+
+    private void drain(){
+        var position = journal.checkpoint();
+        while(running){
+            var entries = journal.read(position, batchSize);
+            if(entries.isEmpty()){
+                LockSupport.parkNanos(drainInterval.toNanos());
+                continue;
+            }
+            try{
+                CompletableFuture.allOf(entries
+                        .stream()
+                        .map(entry -> kafkaTemplate.send(entry.topic(), entry.key(), entry.payload()))
+                        .toArray(CompletableFuture[]::new)).join();
+                position = entries.get(entries.size() - 1).nextPosition();
+                journal.commit(position);
+            }catch (Exception e){
+                log.error("Error trying to publish {} journaled saga events. Retrying from position {}",
+                        entries.size(), position, e);
+                LockSupport.parkNanos(retryBackoff.toNanos());
+            }
+        }
+    }
+
+}
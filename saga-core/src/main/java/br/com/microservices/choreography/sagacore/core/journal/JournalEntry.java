@@ -0,0 +1,5 @@
+package br.com.microservices.choreography.sagacore.core.journal;
+
+public record JournalEntry(String topic, String key, String payload, long nextPosition) {
+
+}
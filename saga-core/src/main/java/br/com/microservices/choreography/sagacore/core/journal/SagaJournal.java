@@ -0,0 +1,266 @@
+package br.com.microservices.choreography.sagacore.core.journal;
+
+import br.com.microservices.choreography.sagacore.config.exception.ValidationException;
+import br.com.microservices.choreography.sagacore.core.enums.EJournalSyncPolicy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.zip.CRC32;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+@Slf4j
+public class SagaJournal implements Closeable {
+
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final String SEGMENT_FORMAT = "%020d" + SEGMENT_SUFFIX;
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+    private static final int TOPIC_LENGTH_BYTES = Short.BYTES;
+    private static final int KEY_LENGTH_BYTES = Short.BYTES;
+    private static final short NULL_KEY = -1;
+    private static final byte[] EMPTY = new byte[0];
+    private static final int ROLL_MARKER = -1;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final EJournalSyncPolicy syncPolicy;
+    private final MappedByteBuffer checkpoint;
+    private final ScheduledExecutorService syncScheduler;
+    private MappedByteBuffer writeSegment;
+    private long writeSegmentIndex;
+    private MappedByteBuffer readSegment;
+    private long readSegmentIndex = -1;
+    private long oldestSegmentIndex;
+    private volatile long writePosition;
+    private volatile long checkpointPosition;
+
+    public SagaJournal(Path directory, int segmentSize, EJournalSyncPolicy syncPolicy, Duration syncInterval){
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.syncPolicy = syncPolicy;
+        try{
+            Files.createDirectories(directory);
+            this.checkpoint = map(directory.resolve(CHECKPOINT_FILE), Long.BYTES);
+        }catch (IOException e){
+            throw new UncheckedIOException("Could not open saga journal at ".concat(directory.toString()), e);
+        }
+        recover();
+        if(EJournalSyncPolicy.INTERVAL.equals(syncPolicy)){
+            var interval = syncInterval.toMillis();
+            this.syncScheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("saga-journal-sync-"));
+            this.syncScheduler.scheduleWithFixedDelay(this::sync, interval, interval, MILLISECONDS);
+        }else{
+            this.syncScheduler = null;
+        }
+    }
+
+    public synchronized long append(String topic, String key, String payload){
+        var topicBytes = topic.getBytes(UTF_8);
+        var keyBytes = key == null ? EMPTY : key.getBytes(UTF_8);
+        var payloadBytes = payload.getBytes(UTF_8);
+        var length = TOPIC_LENGTH_BYTES + topicBytes.length + KEY_LENGTH_BYTES + keyBytes.length + payloadBytes.length;
+        var recordSize = HEADER_BYTES + length;
+        if(recordSize + Integer.BYTES > segmentSize)
+            throw new ValidationException(String.format(
+                    "Saga event of %s bytes does not fit in a journal segment of %s bytes.", recordSize, segmentSize));
+
+        var offset = offsetOf(writePosition);
+        if(offset + recordSize + Integer.BYTES > segmentSize){
+            writeSegment.putInt(offset, ROLL_MARKER);
+            writeSegment.force();
+            openWriteSegment(writeSegmentIndex + 1);
+            offset = 0;
+        }
+        var body = offset + HEADER_BYTES;
+        var keyStart = body + TOPIC_LENGTH_BYTES + topicBytes.length;
+        writeSegment.putShort(body, (short) topicBytes.length);
+        writeSegment.put(body + TOPIC_LENGTH_BYTES, topicBytes);
+        writeSegment.putShort(keyStart, key == null ? NULL_KEY : (short) keyBytes.length);
+        writeSegment.put(keyStart + KEY_LENGTH_BYTES, keyBytes);
+        writeSegment.put(keyStart + KEY_LENGTH_BYTES + keyBytes.length, payloadBytes);
+        writeSegment.putInt(offset + Integer.BYTES, checksum(writeSegment, body, length));
+        writeSegment.putInt(offset, length);
+        if(EJournalSyncPolicy.ALWAYS.equals(syncPolicy))
+            writeSegment.force(offset, recordSize);
+        writePosition = writeSegmentIndex * segmentSize + offset + recordSize;
+        return writePosition;
+    }
+
+    public List<JournalEntry> read(long from, int maxEntries){
+        var entries = new ArrayList<JournalEntry>();
+        var position = from;
+        var limit = writePosition;
+        while(position < limit && entries.size() < maxEntries){
+            var segment = readSegment(segmentOf(position));
+            var offset = offsetOf(position);
+            var length = segment.getInt(offset);
+            if(length == ROLL_MARKER){
+                position = (segmentOf(position) + 1) * segmentSize;
+                continue;
+            }
+            var body = offset + HEADER_BYTES;
+            var topicBytes = new byte[segment.getShort(body)];
+            var keyStart = body + TOPIC_LENGTH_BYTES + topicBytes.length;
+            var keyLength = segment.getShort(keyStart);
+            var keyBytes = keyLength == NULL_KEY ? EMPTY : new byte[keyLength];
+            var payloadBytes = new byte[length - TOPIC_LENGTH_BYTES - topicBytes.length - KEY_LENGTH_BYTES - keyBytes.length];
+            segment.get(body + TOPIC_LENGTH_BYTES, topicBytes);
+            segment.get(keyStart + KEY_LENGTH_BYTES, keyBytes);
+            segment.get(keyStart + KEY_LENGTH_BYTES + keyBytes.length, payloadBytes);
+            position += HEADER_BYTES + length;
+            entries.add(new JournalEntry(new String(topicBytes, UTF_8),
+                    keyLength == NULL_KEY ? null : new String(keyBytes, UTF_8),
+                    new String(payloadBytes, UTF_8), position));
+        }
+        return entries;
+    }
+
+    public long checkpoint(){
+        return checkpointPosition;
+    }
+
+    public void commit(long position){
+        checkpointPosition = position;
+        checkpoint.putLong(0, position);
+        if(EJournalSyncPolicy.ALWAYS.equals(syncPolicy))
+            checkpoint.force();
+        var committedSegment = segmentOf(position);
+        while(oldestSegmentIndex < committedSegment){
+            try{
+                Files.deleteIfExists(segmentPath(oldestSegmentIndex));
+            }catch (IOException e){
+                log.warn("Could not delete drained journal segment {}: {}", oldestSegmentIndex, e.toString());
+            }
+            oldestSegmentIndex++;
+        }
+    }
+
+    public long pending(){
+        return writePosition - checkpointPosition;
+    }
+
+    public void sync(){
+        MappedByteBuffer segment;
+        synchronized (this){
+            segment = writeSegment;
+        }
+        segment.force();
+        checkpoint.force();
+    }
+
+    @Override
+    public void close(){
+        if(syncScheduler != null)
+            syncScheduler.shutdown();
+        sync();
+        log.info("Saga journal closed with {} bytes pending publication", pending());
+    }
+
+    private void recover(){
+        checkpointPosition = checkpoint.getLong(0);
+        var segments = listSegments();
+        if(segments.isEmpty()){
+            oldestSegmentIndex = segmentOf(checkpointPosition);
+            writePosition = checkpointPosition;
+        }else{
+            oldestSegmentIndex = segments.get(0);
+            checkpointPosition = Math.max(checkpointPosition, oldestSegmentIndex * segmentSize);
+            var lastSegment = segments.get(segments.size() - 1);
+            writePosition = Math.max(scanSegment(lastSegment), checkpointPosition);
+        }
+        openWriteSegment(segmentOf(writePosition));
+        log.info("Saga journal recovered at {} with checkpoint {} ({} bytes pending publication)",
+                writePosition, checkpointPosition, pending());
+    }
+
+    private long scanSegment(long index){
+        var segment = mapSegment(index);
+        var offset = 0;
+        while(offset + HEADER_BYTES <= segmentSize){
+            var length = segment.getInt(offset);
+            if(length == ROLL_MARKER)
+                return (index + 1) * segmentSize;
+            if(length <= 0 || offset + HEADER_BYTES + length > segmentSize
+                    || segment.getInt(offset + Integer.BYTES) != checksum(segment, offset + HEADER_BYTES, length))
+                break;
+            offset += HEADER_BYTES + length;
+        }
+        return index * segmentSize + offset;
+    }
+
+    private List<Long> listSegments(){
+        try (var files = Files.list(directory)) {
+            return files
+                    .map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }catch (IOException e){
+            throw new UncheckedIOException("Could not list saga journal segments", e);
+        }
+    }
+
+    private void openWriteSegment(long index){
+        writeSegment = mapSegment(index);
+        writeSegmentIndex = index;
+    }
+
+    private MappedByteBuffer readSegment(long index){
+        if(index != readSegmentIndex){
+            readSegment = mapSegment(index);
+            readSegmentIndex = index;
+        }
+        return readSegment;
+    }
+
+    private MappedByteBuffer mapSegment(long index){
+        try{
+            return map(segmentPath(index), segmentSize);
+        }catch (IOException e){
+            throw new UncheckedIOException("Could not map saga journal segment " + index, e);
+        }
+    }
+
+    private MappedByteBuffer map(Path path, int size) throws IOException {
+        try (var channel = FileChannel.open(path, CREATE, READ, WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private Path segmentPath(long index){
+        return directory.resolve(String.format(SEGMENT_FORMAT, index));
+    }
+
+    private long segmentOf(long position){
+        return position / segmentSize;
+    }
+
+    private int offsetOf(long position){
+        return (int) (position % segmentSize);
+    }
+
+    private int checksum(MappedByteBuffer segment, int offset, int length){
+        var crc = new CRC32();
+        crc.update(segment.slice(offset, length));
+        return (int) crc.getValue();
+    }
+
+}
@@ -1,25 +1,27 @@
-package br.com.microservices.choreography.productvalidationservice.core.producer;
+package br.com.microservices.choreography.sagacore.core.producer;
 
+import br.com.microservices.choreography.sagacore.core.transport.SagaTransport;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class KafkaProducer {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
-
-    public void sendEvent(String payload, String topic){
+    private final SagaTransport transport;
+    public CompletableFuture<?> sendEvent(String payload, String key, String topic){
         try{
 
             log.info("Sending event to topic {} with data {}", topic, payload);
-            kafkaTemplate.send(topic, payload);
+            return transport.send(topic, key, payload);
         }catch (Exception e){
             log.error("Error trying to send data to topic {} with data {}",
                     topic, payload);
+            return CompletableFuture.failedFuture(e);
         }
     }
 
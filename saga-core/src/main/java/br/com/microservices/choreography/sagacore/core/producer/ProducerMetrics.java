@@ -0,0 +1,55 @@
+package br.com.microservices.choreography.sagacore.core.producer;
+
+import br.com.microservices.choreography.sagacore.core.dto.ProducerStats;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class ProducerMetrics {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final ConcurrentHashMap<String, TopicSends> topics = new ConcurrentHashMap<>();
+
+    public void record(String topic, boolean acknowledged, long elapsedNanos){
+        topics.computeIfAbsent(topic, name -> new TopicSends()).record(acknowledged, elapsedNanos);
+    }
+
+    public List<ProducerStats> snapshot(){
+        return topics.entrySet()
+                .stream()
+                .map(entry -> entry.getValue().toStats(entry.getKey()))
+                .sorted(Comparator.comparing(ProducerStats::getTopic))
+                .toList();
+    }
+
+    private static class TopicSends {
+
+        private final LongAdder sent = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private void record(boolean acknowledged, long elapsedNanos){
+            if(acknowledged)
+                sent.increment();
+            else
+                failed.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+        }
+
+        private ProducerStats toStats(String topic){
+            var sends = sent.sum() + failed.sum();
+            var average = sends == 0 ? 0.0 : totalNanos.sum() / (double) sends / NANOS_PER_MILLI;
+            return new ProducerStats(topic, sent.sum(), failed.sum(), average, maxNanos.get() / NANOS_PER_MILLI);
+        }
+
+    }
+
+}
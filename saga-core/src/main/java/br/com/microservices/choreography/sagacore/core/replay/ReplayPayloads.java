@@ -0,0 +1,28 @@
+package br.com.microservices.choreography.sagacore.core.replay;
+
+import br.com.microservices.choreography.sagacore.config.exception.ValidationException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+@Slf4j
+public final class ReplayPayloads {
+
+    private ReplayPayloads(){
+    }
+
+    public static <T> List<T> parse(String topic, List<String> payloads, Function<String, T> parser){
+        var values = new ArrayList<T>(payloads.size());
+        for (var payload : payloads) {
+            try{
+                values.add(parser.apply(payload));
+            }catch (ValidationException e){
+                log.warn("Skipping malformed record replayed from {}: {}", topic, e.getMessage());
+            }
+        }
+        return values;
+    }
+
+}
@@ -0,0 +1,11 @@
+package br.com.microservices.choreography.sagacore.core.replay;
+
+import java.util.List;
+
+public interface SagaReplayHandler {
+
+    boolean supports(String topic);
+
+    void replay(String topic, List<String> payloads);
+
+}
@@ -0,0 +1,157 @@
+package br.com.microservices.choreography.sagacore.core.replay;
+
+import br.com.microservices.choreography.sagacore.config.exception.ValidationException;
+import br.com.microservices.choreography.sagacore.core.dto.SagaReplay;
+import br.com.microservices.choreography.sagacore.core.saga.SagaReplayContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+
+import static org.springframework.util.CollectionUtils.isEmpty;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SagaReplayService {
+
+    private static final String REPLAY_GROUP_SUFFIX = "-replay";
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(2);
+    private static final double MILLIS_PER_SECOND = 1000.0;
+
+    private final ConsumerFactory<String, String> consumerFactory;
+    private final List<SagaReplayHandler> handlers;
+
+    @Value("${spring.kafka.consumer.group-id}")
+    private String groupId;
+
+    @Value("${saga.replay.parallelism}")
+    private int parallelism;
+
+    @Value("${saga.replay.batch-size}")
+    private int batchSize;
+
+    @Value("${saga.replay.timeout}")
+    private Duration replayTimeout;
+
+    public SagaReplay replay(String topic, LocalDateTime from, LocalDateTime to){
+        var handler = handlers
+                .stream()
+                .filter(candidate -> candidate.supports(topic))
+                .findFirst()
+                .orElseThrow(() -> new ValidationException("Replay is not supported for topic ".concat(topic)));
+        var partitions = findPartitions(topic);
+        var fromMillis = toEpochMillis(from);
+        var toMillis = toEpochMillis(to);
+        var startedAt = System.nanoTime();
+        var executor = Executors.newFixedThreadPool(Math.min(parallelism, partitions.size()),
+                new CustomizableThreadFactory("saga-replay-"));
+        long replayedRecords;
+        try{
+            var replays = partitions
+                    .stream()
+                    .map(partition -> CompletableFuture.supplyAsync(
+                            () -> replayPartition(partition, fromMillis, toMillis, handler), executor))
+                    .toList();
+            replayedRecords = replays.stream().mapToLong(CompletableFuture::join).sum();
+        }catch (CompletionException e){
+            if(e.getCause() instanceof ValidationException validationException)
+                throw validationException;
+            throw e;
+        }finally {
+            executor.shutdown();
+        }
+        var elapsedMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+        var recordsPerSecond = elapsedMillis == 0
+                ? replayedRecords
+                : replayedRecords * MILLIS_PER_SECOND / elapsedMillis;
+        log.info("Replayed {} records from {} partitions of {} in {} ms ({} records/s)",
+                replayedRecords, partitions.size(), topic, elapsedMillis, String.format("%.1f", recordsPerSecond));
+        return new SagaReplay(topic, partitions.size(), replayedRecords, elapsedMillis, recordsPerSecond);
+    }
+
+    private List<TopicPartition> findPartitions(String topic){
+        try (var consumer = createConsumer(REPLAY_GROUP_SUFFIX)) {
+            var partitions = consumer.partitionsFor(topic);
+            if(isEmpty(partitions))
+                throw new ValidationException("Topic not found: ".concat(topic));
+            return partitions
+                    .stream()
+                    .map(partition -> new TopicPartition(partition.topic(), partition.partition()))
+                    .toList();
+        }
+    }
+
+    private long replayPartition(TopicPartition partition, Long fromMillis, Long toMillis, SagaReplayHandler handler){
+        try (var consumer = createConsumer(REPLAY_GROUP_SUFFIX.concat("-") + partition.partition())) {
+            var assignment = List.of(partition);
+            consumer.assign(assignment);
+            var endOffset = consumer.endOffsets(assignment).get(partition);
+            var start = fromMillis == null
+                    ? consumer.beginningOffsets(assignment).get(partition)
+                    : offsetForTime(consumer, partition, fromMillis, endOffset);
+            var end = toMillis == null ? endOffset : offsetForTime(consumer, partition, toMillis, endOffset);
+            consumer.seek(partition, start);
+
+            var replayedRecords = 0L;
+            var deadline = System.nanoTime() + replayTimeout.toNanos();
+            while(consumer.position(partition) < end){
+                if(System.nanoTime() > deadline)
+                    throw new ValidationException(String.format(
+                            "Replay of partition %s timed out at offset %s of %s after %s records.",
+                            partition, consumer.position(partition), end, replayedRecords));
+                var records = consumer.poll(POLL_TIMEOUT);
+                if(records.isEmpty())
+                    continue;
+                var payloads = new ArrayList<String>(records.count());
+                for (var record : records) {
+                    if(record.offset() < end)
+                        payloads.add(record.value());
+                }
+                SagaReplayContext.run(() -> handler.replay(partition.topic(), payloads));
+                replayedRecords += payloads.size();
+            }
+            log.info("Replayed {} records from partition {} (offsets {} to {})",
+                    replayedRecords, partition, start, end);
+            return replayedRecords;
+        }
+    }
+
+    private long offsetForTime(Consumer<String, String> consumer, TopicPartition partition,
+                               long timestamp, long endOffset){
+        var offset = consumer.offsetsForTimes(Map.of(partition, timestamp)).get(partition);
+        return offset == null ? endOffset : offset.offset();
+    }
+
+    private Consumer<String, String> createConsumer(String clientIdSuffix){
+        return consumerFactory.createConsumer(groupId.concat(REPLAY_GROUP_SUFFIX), null, clientIdSuffix, replayProps());
+    }
+
+    private Properties replayProps(){
+        var props = new Properties();
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchSize);
+        return props;
+    }
+
+    private Long toEpochMillis(LocalDateTime dateTime){
+        return dateTime == null ? null : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+}
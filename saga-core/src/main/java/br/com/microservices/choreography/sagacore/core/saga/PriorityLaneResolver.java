@@ -0,0 +1,33 @@
+package br.com.microservices.choreography.sagacore.core.saga;
+
+import br.com.microservices.choreography.sagacore.core.dto.Event;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static br.com.microservices.choreography.sagacore.core.enums.EOrderPriority.PREMIUM;
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+@Component
+public class PriorityLaneResolver {
+
+    private final boolean enabled;
+    private final Map<String, String> priorityTopics = new HashMap<>();
+
+    public PriorityLaneResolver(@Value("${saga.priority-lanes.enabled}") boolean enabled,
+                                @Value("${saga.priority-lanes.suffix}") String suffix,
+                                @Value("${saga.priority-lanes.topics}") List<String> topics){
+        this.enabled = enabled;
+        topics.forEach(topic -> priorityTopics.put(topic.trim(), topic.trim().concat(suffix)));
+    }
+
+    public String resolve(Event event, String topic){
+        if(!enabled || isEmpty(event.getPayload()) || !PREMIUM.equals(event.getPayload().getPriority()))
+            return topic;
+        return priorityTopics.getOrDefault(topic, topic);
+    }
+
+}
@@ -0,0 +1,62 @@
+package br.com.microservices.choreography.sagacore.core.saga;
+
+import br.com.microservices.choreography.sagacore.core.dto.Event;
+import br.com.microservices.choreography.sagacore.core.enums.ESagaStatus;
+import br.com.microservices.choreography.sagacore.core.producer.KafkaProducer;
+import br.com.microservices.choreography.sagacore.core.utils.JsonUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static java.lang.String.format;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class SagaExecutionController {
+
+    private static final String SAGA_LOG_ID = "ORDER ID: %s | TRANSACTION ID %s | EVENT ID: %s";
+    private static final Map<ESagaStatus, String> SAGA_STEPS = new EnumMap<>(Map.of(
+            ESagaStatus.SUCCESS, "SUCCESS",
+            ESagaStatus.FAIL, "SENDING TO ROLLBACK PREVIOUS SERVICE",
+            ESagaStatus.ROLLBACK_PENDING, "SENDING TO ROLLBACK CURRENT SERVICE"
+    ));
+
+    private final JsonUtil jsonUtil;
+    private final KafkaProducer producer;
+    private final SagaRouter router;
+    private final PriorityLaneResolver priorityLanes;
+
+    public CompletableFuture<Void> handleSaga(Event event){
+        if(SagaReplayContext.isActive()){
+            log.debug("### REPLAY: {} | STATUS {} | NOT PUBLISHED | {}",
+                    event.getSource(), event.getStatus(), createSagaId(event));
+            return CompletableFuture.completedFuture(null);
+        }
+        var topics = router.route(event.getStatus());
+        if(topics.length == 0){
+            log.warn("### CURRENT SAGA: {} | NO ROUTE FOR STATUS {} | {}",
+                    event.getSource(), event.getStatus(), createSagaId(event));
+            return CompletableFuture.completedFuture(null);
+        }
+        var payload = jsonUtil.toJson(event);
+        var sends = new CompletableFuture<?>[topics.length];
+        for (int index = 0; index < topics.length; index++) {
+            var topic = priorityLanes.resolve(event, topics[index]);
+            log.info("### CURRENT SAGA: {} | {} | NEXT TOPIC {} | {}",
+                    event.getSource(), SAGA_STEPS.get(event.getStatus()), topic, createSagaId(event));
+            sends[index] = producer.sendEvent(payload, event.getOrderId(), topic);
+        }
+        return CompletableFuture.allOf(sends);
+    }
+
+    private String createSagaId(Event event){
+        return format(SAGA_LOG_ID,
+                event.getPayload().getId(), event.getTransactionId(), event.getId());
+    }
+
+}
@@ -0,0 +1,23 @@
+package br.com.microservices.choreography.sagacore.core.saga;
+
+public final class SagaReplayContext {
+
+    private static final ThreadLocal<Boolean> ACTIVE = ThreadLocal.withInitial(() -> false);
+
+    private SagaReplayContext(){
+    }
+
+    public static boolean isActive(){
+        return ACTIVE.get();
+    }
+
+    public static void run(Runnable action){
+        ACTIVE.set(true);
+        try{
+            action.run();
+        }finally {
+            ACTIVE.remove();
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+package br.com.microservices.choreography.sagacore.core.saga;
+
+import br.com.microservices.choreography.sagacore.config.exception.ValidationException;
+import br.com.microservices.choreography.sagacore.config.kafka.SagaKafkaProperties;
+import br.com.microservices.choreography.sagacore.config.saga.SagaRoutingProperties;
+import br.com.microservices.choreography.sagacore.core.enums.ESagaStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+@Slf4j
+@Component
+public class SagaRouter {
+
+    private static final String[] NO_TOPICS = new String[0];
+    private static final Pattern TOPIC_NAME = Pattern.compile("[a-zA-Z0-9._-]{1,249}");
+
+    private final Set<String> declaredTopics;
+    private final EnumMap<ESagaStatus, String[]> routes;
+
+    public SagaRouter(SagaRoutingProperties properties, SagaKafkaProperties kafkaProperties){
+        this.declaredTopics = Set.copyOf(kafkaProperties.getTopics());
+        this.routes = compile(properties.getRouting());
+        log.info("Saga routing table loaded: {}", currentRoutes());
+    }
+
+    public String[] route(ESagaStatus status){
+        var topics = routes.get(status);
+        return topics == null ? NO_TOPICS : topics;
+    }
+
+    public Map<ESagaStatus, List<String>> currentRoutes(){
+        var current = new EnumMap<ESagaStatus, List<String>>(ESagaStatus.class);
+        routes.forEach((status, topics) -> current.put(status, List.of(topics)));
+        return current;
+    }
+
+    private EnumMap<ESagaStatus, String[]> compile(Map<ESagaStatus, List<String>> routing){
+        var compiled = new EnumMap<ESagaStatus, String[]>(ESagaStatus.class);
+        for (var status : ESagaStatus.values()) {
+            var topics = isEmpty(routing) ? null : routing.get(status);
+            if(isEmpty(topics))
+                throw new ValidationException("Saga routing must define at least one topic for status ".concat(status.name()));
+            var distinctTopics = topics.stream().map(String::trim).distinct().toArray(String[]::new);
+            for (var topic : distinctTopics)
+                validateTopic(status, topic);
+            compiled.put(status, distinctTopics);
+        }
+        return compiled;
+    }
+
+    private void validateTopic(ESagaStatus status, String topic){
+        if(isEmpty(topic))
+            throw new ValidationException("Saga routing has an empty topic for status ".concat(status.name()));
+        if(!TOPIC_NAME.matcher(topic).matches())
+            throw new ValidationException(String.format("Saga routing topic %s for status %s is not a valid topic name.",
+                    topic, status));
+        if(!declaredTopics.isEmpty() && !declaredTopics.contains(topic))
+            throw new ValidationException(String.format("Saga routing topic %s for status %s is not declared in saga.kafka.topics.",
+                    topic, status));
+    }
+
+}
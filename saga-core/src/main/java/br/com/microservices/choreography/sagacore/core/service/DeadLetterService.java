@@ -0,0 +1,117 @@
+package br.com.microservices.choreography.sagacore.core.service;
+
+import br.com.microservices.choreography.sagacore.config.exception.ValidationException;
+import br.com.microservices.choreography.sagacore.core.dto.DeadLetterReplay;
+import br.com.microservices.choreography.sagacore.core.producer.KafkaProducer;
+import br.com.microservices.choreography.sagacore.core.transport.InProcessEventBus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+
+import static org.springframework.util.CollectionUtils.isEmpty;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeadLetterService {
+
+    private static final String DLT_SUFFIX = ".DLT";
+    private static final String REPLAY_CLIENT_SUFFIX = "-replay";
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(2);
+
+    private final ConsumerFactory<String, String> consumerFactory;
+    private final KafkaProducer producer;
+    private final Optional<InProcessEventBus> inProcessEventBus;
+
+    @Value("${spring.kafka.consumer.group-id}")
+    private String groupId;
+
+    @Value("${saga.dead-letter.replay-timeout}")
+    private Duration replayTimeout;
+
+    public DeadLetterReplay replay(String topic){
+        var deadLetterTopic = topic.concat(DLT_SUFFIX);
+        if(inProcessEventBus.isPresent()){
+            var replayed = inProcessEventBus.get().replayDeadLetters(topic);
+            log.info("Replayed {} in-process dead letters to {}", replayed, topic);
+            return new DeadLetterReplay(topic, deadLetterTopic, replayed);
+        }
+        var replayedRecords = 0;
+        var deadline = System.nanoTime() + replayTimeout.toNanos();
+        try (var consumer = consumerFactory.createConsumer(
+                groupId.concat(DLT_SUFFIX), null, REPLAY_CLIENT_SUFFIX, replayProps())) {
+            var partitions = consumer.partitionsFor(deadLetterTopic);
+            if (isEmpty(partitions))
+                throw new ValidationException("Dead letter topic not found for ".concat(topic));
+
+            var assignment = partitions
+                    .stream()
+                    .map(partition -> new TopicPartition(partition.topic(), partition.partition()))
+                    .toList();
+            consumer.assign(assignment);
+            var endOffsets = consumer.endOffsets(assignment);
+            var pending = pendingPartitions(consumer, endOffsets);
+
+            while (!pending.isEmpty()) {
+                if (System.nanoTime() > deadline)
+                    throw new ValidationException(String.format(
+                            "Dead letter replay of %s timed out after %s records. Replayed records were committed.",
+                            deadLetterTopic, replayedRecords));
+                for (var deadLetter : consumer.poll(POLL_TIMEOUT)) {
+                    var partition = new TopicPartition(deadLetter.topic(), deadLetter.partition());
+                    if (deadLetter.offset() >= endOffsets.get(partition))
+                        continue;
+                    producer.sendEvent(deadLetter.value(), deadLetter.key(), topic);
+                    replayedRecords++;
+                }
+                consumer.commitSync(committableOffsets(consumer, pending, endOffsets));
+                pending = pendingPartitions(consumer, endOffsets);
+            }
+        }
+        log.info("Replayed {} records from {} to {}", replayedRecords, deadLetterTopic, topic);
+        return new DeadLetterReplay(topic, deadLetterTopic, replayedRecords);
+    }
+
+    private Set<TopicPartition> pendingPartitions(Consumer<String, String> consumer,
+                                                  Map<TopicPartition, Long> endOffsets){
+        var pending = new HashSet<TopicPartition>();
+        endOffsets.forEach((partition, endOffset) -> {
+            if (consumer.position(partition) < endOffset)
+                pending.add(partition);
+            else
+                consumer.pause(Set.of(partition));
+        });
+        return pending;
+    }
+
+    private Map<TopicPartition, OffsetAndMetadata> committableOffsets(Consumer<String, String> consumer,
+                                                                      Set<TopicPartition> partitions,
+                                                                      Map<TopicPartition, Long> endOffsets){
+        var offsets = new HashMap<TopicPartition, OffsetAndMetadata>();
+        partitions.forEach(partition -> offsets.put(partition,
+                new OffsetAndMetadata(Math.min(consumer.position(partition), endOffsets.get(partition)))));
+        return offsets;
+    }
+
+    private Properties replayProps(){
+        var props = new Properties();
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        return props;
+    }
+
+}
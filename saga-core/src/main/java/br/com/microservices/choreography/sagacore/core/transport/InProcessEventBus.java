@@ -0,0 +1,186 @@
+package br.com.microservices.choreography.sagacore.core.transport;
+
+import br.com.microservices.choreography.sagacore.config.exception.ValidationException;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+@Slf4j
+public class InProcessEventBus {
+
+    private static final int SPIN_TRIES = 100;
+    private static final long IDLE_PARK_NANOS = 50_000L;
+    private static final CompletableFuture<Void> PUBLISHED = CompletableFuture.completedFuture(null);
+    private static final String DLT_SUFFIX = ".DLT";
+    private static final int RETRY_MAX_ATTEMPTS = 4;
+    private static final long RETRY_INITIAL_INTERVAL = 1000L;
+    private static final long RETRY_MAX_INTERVAL = 30000L;
+    private static InProcessEventBus shared;
+
+    private final int mask;
+    private final String[] topics;
+    private final String[] payloads;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private final ArrayDeque<String[]> reentrant = new ArrayDeque<>();
+    private final Map<String, List<Consumer<String>>> subscriptions = new ConcurrentHashMap<>();
+    private final Queue<Redelivery> redeliveries = new ConcurrentLinkedQueue<>();
+    private final Queue<DeadLetter> deadLetters = new ConcurrentLinkedQueue<>();
+    private final int deadLetterCapacity;
+    private final ScheduledExecutorService retryScheduler =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("saga-in-process-retry-"));
+    private final Thread dispatcher;
+    private volatile long consumed = -1;
+
+    public InProcessEventBus(int capacity){
+        if(capacity <= 0)
+            throw new ValidationException("In-process event bus capacity must be positive.");
+        var size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.mask = size - 1;
+        this.topics = new String[size];
+        this.payloads = new String[size];
+        this.published = new AtomicLongArray(size);
+        this.deadLetterCapacity = size;
+        for (var index = 0; index < size; index++)
+            published.set(index, -1);
+        this.dispatcher = new Thread(this::dispatchLoop, "saga-in-process-bus");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    public static synchronized InProcessEventBus shared(int capacity){
+        if(shared == null)
+            shared = new InProcessEventBus(capacity);
+        return shared;
+    }
+
+    public Runnable subscribe(String topic, Consumer<String> handler){
+        var handlers = subscriptions.computeIfAbsent(topic, key -> new CopyOnWriteArrayList<>());
+        handlers.add(handler);
+        return () -> handlers.remove(handler);
+    }
+
+    public CompletableFuture<Void> publish(String topic, String payload){
+        if(Thread.currentThread() == dispatcher){
+            reentrant.add(new String[]{topic, payload});
+            return PUBLISHED;
+        }
+        var sequence = claimed.getAndIncrement();
+        while(sequence - consumed > topics.length)
+            LockSupport.parkNanos(1L);
+        var index = (int) (sequence & mask);
+        topics[index] = topic;
+        payloads[index] = payload;
+        published.set(index, sequence);
+        return PUBLISHED;
+    }
+
+    private void dispatchLoop(){
+        var next = 0L;
+        var idle = 0;
+        while(true){
+            var pending = reentrant.poll();
+            if(pending != null){
+                deliver(pending[0], pending[1]);
+                continue;
+            }
+            var redelivery = redeliveries.poll();
+            if(redelivery != null){
+                deliver(redelivery.topic(), redelivery.payload(), redelivery.handler(), redelivery.attempt());
+                continue;
+            }
+            var index = (int) (next & mask);
+            if(published.get(index) != next){
+                if(++idle < SPIN_TRIES)
+                    Thread.onSpinWait();
+                else
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            var topic = topics[index];
+            var payload = payloads[index];
+            topics[index] = null;
+            payloads[index] = null;
+            consumed = next++;
+            idle = 0;
+            deliver(topic, payload);
+        }
+    }
+
+    private void deliver(String topic, String payload){
+        var handlers = subscriptions.get(topic);
+        if(handlers == null || handlers.isEmpty()){
+            log.warn("No in-process subscriber for topic {}. Event discarded: {}", topic, payload);
+            return;
+        }
+        for (var handler : handlers)
+            deliver(topic, payload, handler, 1);
+    }
+
+    private void deliver(String topic, String payload, Consumer<String> handler, int attempt){
+        try{
+            handler.accept(payload);
+        }catch (Exception e){
+            if(attempt < RETRY_MAX_ATTEMPTS && isRetryable(e)){
+                var wait = Math.min(RETRY_INITIAL_INTERVAL << (attempt - 1), RETRY_MAX_INTERVAL);
+                log.warn("In-process handler for topic {} failed on attempt {}, retrying in {}ms.", topic, attempt, wait, e);
+                var redelivery = new Redelivery(topic, payload, handler, attempt + 1);
+                retryScheduler.schedule(() -> redeliveries.add(redelivery), wait, TimeUnit.MILLISECONDS);
+                return;
+            }
+            log.error("In-process handler for topic {} failed after {} attempts with data {}", topic, attempt, payload, e);
+            deadLetter(topic, payload, e);
+        }
+    }
+
+    private void deadLetter(String topic, String payload, Exception cause){
+        var deadLetterTopic = topic.concat(DLT_SUFFIX);
+        var handlers = subscriptions.get(deadLetterTopic);
+        if(handlers != null && !handlers.isEmpty()){
+            reentrant.add(new String[]{deadLetterTopic, payload});
+            return;
+        }
+        deadLetters.add(new DeadLetter(topic, payload, cause.toString()));
+        while(deadLetters.size() > deadLetterCapacity)
+            deadLetters.poll();
+    }
+
+    private boolean isRetryable(Throwable error){
+        for (var cause = error; cause != null; cause = cause.getCause()) {
+            if(cause instanceof ValidationException)
+                return false;
+        }
+        return true;
+    }
+
+    public int replayDeadLetters(String topic){
+        var replayed = new ArrayList<DeadLetter>();
+        deadLetters.removeIf(deadLetter -> topic.equals(deadLetter.topic()) && replayed.add(deadLetter));
+        replayed.forEach(deadLetter -> publish(deadLetter.topic(), deadLetter.payload()));
+        return replayed.size();
+    }
+
+    private record DeadLetter(String topic, String payload, String error) {
+    }
+
+    private record Redelivery(String topic, String payload, Consumer<String> handler, int attempt) {
+    }
+
+}
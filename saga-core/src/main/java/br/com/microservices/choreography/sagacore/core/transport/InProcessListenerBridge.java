@@ -0,0 +1,85 @@
+package br.com.microservices.choreography.sagacore.core.transport;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.AbstractMessageListenerContainer;
+import org.springframework.kafka.listener.BatchMessageListener;
+import org.springframework.kafka.listener.MessageListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+@Slf4j
+@RequiredArgsConstructor
+public class InProcessListenerBridge implements SmartLifecycle {
+
+    private static final int PARTITION = 0;
+
+    private final KafkaListenerEndpointRegistry registry;
+    private final InProcessEventBus bus;
+    private final List<Runnable> subscriptions = new ArrayList<>();
+    private final AtomicLong offset = new AtomicLong();
+    private volatile boolean running;
+
+    @Override
+    public void start(){
+        for (var container : registry.getListenerContainers()) {
+            var active = container.isAutoStartup();
+            container.setAutoStartup(false);
+            var topics = container.getContainerProperties().getTopics();
+            if(!active || topics == null)
+                continue;
+            var handler = handler(container.getContainerProperties().getMessageListener());
+            if(handler == null){
+                log.warn("Listener {} is not a record or batch listener. Skipping in-process subscription.",
+                        container.getListenerId());
+                continue;
+            }
+            for (var topic : topics) {
+                subscriptions.add(bus.subscribe(topic, payload -> handler.accept(record(topic, payload))));
+                log.info("Listener {} subscribed in-process to topic {}", container.getListenerId(), topic);
+            }
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop(){
+        subscriptions.forEach(Runnable::run);
+        subscriptions.clear();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning(){
+        return running;
+    }
+
+    @Override
+    public int getPhase(){
+        return AbstractMessageListenerContainer.DEFAULT_PHASE - 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Consumer<ConsumerRecord<String, String>> handler(Object listener){
+        if(listener instanceof BatchMessageListener<?, ?> batchListener){
+            var typed = (BatchMessageListener<String, String>) batchListener;
+            return record -> typed.onMessage(List.of(record), null, null);
+        }
+        if(listener instanceof MessageListener<?, ?> recordListener){
+            var typed = (MessageListener<String, String>) recordListener;
+            return record -> typed.onMessage(record, null, null);
+        }
+        return null;
+    }
+
+    private ConsumerRecord<String, String> record(String topic, String payload){
+        return new ConsumerRecord<>(topic, PARTITION, offset.getAndIncrement(), null, payload);
+    }
+
+}
@@ -0,0 +1,21 @@
+package br.com.microservices.choreography.sagacore.core.transport;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.CompletableFuture;
+
+@RequiredArgsConstructor
+public class InProcessSagaTransport implements SagaTransport {
+
+    private final InProcessEventBus bus;
+
+    @Override
+    public CompletableFuture<?> send(String topic, String key, String payload){
+        return bus.publish(topic, payload);
+    }
+
+    @Override
+    public void flush(){
+    }
+
+}
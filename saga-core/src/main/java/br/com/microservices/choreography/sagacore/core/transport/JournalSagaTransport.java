@@ -0,0 +1,23 @@
+package br.com.microservices.choreography.sagacore.core.transport;
+
+import br.com.microservices.choreography.sagacore.core.journal.SagaJournal;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.CompletableFuture;
+
+@RequiredArgsConstructor
+public class JournalSagaTransport implements SagaTransport {
+
+    private final SagaJournal journal;
+
+    @Override
+    public CompletableFuture<?> send(String topic, String key, String payload){
+        return CompletableFuture.completedFuture(journal.append(topic, key, payload));
+    }
+
+    @Override
+    public void flush(){
+        journal.sync();
+    }
+
+}
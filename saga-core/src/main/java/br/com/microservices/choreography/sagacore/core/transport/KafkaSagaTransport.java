@@ -0,0 +1,29 @@
+package br.com.microservices.choreography.sagacore.core.transport;
+
+import br.com.microservices.choreography.sagacore.core.producer.ProducerMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.concurrent.CompletableFuture;
+
+@RequiredArgsConstructor
+public class KafkaSagaTransport implements SagaTransport {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ProducerMetrics producerMetrics;
+
+    @Override
+    public CompletableFuture<?> send(String topic, String key, String payload){
+        var startedAt = System.nanoTime();
+        return kafkaTemplate
+                .send(topic, key, payload)
+                .whenComplete((result, exception) ->
+                        producerMetrics.record(topic, exception == null, System.nanoTime() - startedAt));
+    }
+
+    @Override
+    public void flush(){
+        kafkaTemplate.flush();
+    }
+
+}
@@ -0,0 +1,11 @@
+package br.com.microservices.choreography.sagacore.core.transport;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface SagaTransport {
+
+    CompletableFuture<?> send(String topic, String key, String payload);
+
+    void flush();
+
+}
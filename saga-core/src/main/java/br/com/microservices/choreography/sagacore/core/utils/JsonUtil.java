@@ -0,0 +1,64 @@
+package br.com.microservices.choreography.sagacore.core.utils;
+
+import br.com.microservices.choreography.sagacore.config.exception.ValidationException;
+import br.com.microservices.choreography.sagacore.core.dto.Event;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@AllArgsConstructor
+public class JsonUtil {
+
+    private final ObjectMapper objectMapper;
+
+    public String toJson(Object obj){
+        try{
+             return objectMapper.writeValueAsString(obj instanceof Event event ? withoutClaimedProducts(event) : obj);
+        }catch (Exception ex){
+            return "";
+        }
+    }
+
+    public Event toEvent(String json){
+        return toEvent(json, Event.class);
+    }
+
+    public <T> T toEvent(String json, Class<T> eventType){
+        try{
+            return objectMapper.readValue(json, eventType);
+        }catch (Exception e){
+            throw new ValidationException("Invalid event payload: ".concat(e.getMessage()));
+        }
+    }
+
+    public <T> List<T> toList(InputStream ndjson, Class<T> type, int maxSize){
+        var values = new ArrayList<T>();
+        try(var iterator = objectMapper.readerFor(type).<T>readValues(ndjson)){
+            while(iterator.hasNextValue()){
+                if(values.size() == maxSize)
+                    throw new ValidationException(String.format("Batch size must not exceed %s items.", maxSize));
+                values.add(iterator.nextValue());
+            }
+        }catch (ValidationException e){
+            throw e;
+        }catch (Exception e){
+            throw new ValidationException("Invalid NDJSON payload: ".concat(e.getMessage()));
+        }
+        return values;
+    }
+
+    private Event withoutClaimedProducts(Event event){
+        if(event.getClaimCheck() == null || event.getPayload() == null)
+            return event;
+        return event
+                .toBuilder()
+                .payload(event.getPayload().toBuilder().products(null).build())
+                .build();
+    }
+
+}
@@ -0,0 +1,52 @@
+package br.com.microservices.choreography.sagacore.core.utils;
+
+import br.com.microservices.choreography.sagacore.core.dto.OrderProduct;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+
+import static org.springframework.util.CollectionUtils.isEmpty;
+
+public record OrderTotals(long totalCents, int totalItems) {
+
+    private static final int CENTS_SCALE = 2;
+    private static final double CENTS_PER_UNIT = 100.0;
+
+    public static OrderTotals of(List<OrderProduct> products){
+        return of(products, OrderProduct::getQuantity, orderProduct -> orderProduct.getProduct().getUnitValue());
+    }
+
+    public static <T> OrderTotals of(List<T> lines, ToIntFunction<T> quantityOf, ToDoubleFunction<T> unitValueOf){
+        if(isEmpty(lines))
+            return new OrderTotals(0L, 0);
+        var totalCents = 0L;
+        var totalItems = 0;
+        for (int index = 0, size = lines.size(); index < size; index++) {
+            var line = lines.get(index);
+            var quantity = quantityOf.applyAsInt(line);
+            var unitCents = toCents(unitValueOf.applyAsDouble(line));
+            totalCents = Math.addExact(totalCents, Math.multiplyExact(unitCents, quantity));
+            totalItems = Math.addExact(totalItems, quantity);
+        }
+        return new OrderTotals(totalCents, totalItems);
+    }
+
+    public static long toCents(double value){
+        return Math.round(value * CENTS_PER_UNIT);
+    }
+
+    public static BigDecimal toAmount(long cents){
+        return BigDecimal.valueOf(cents, CENTS_SCALE);
+    }
+
+    public BigDecimal totalAmount(){
+        return toAmount(totalCents);
+    }
+
+    public double totalAmountValue(){
+        return totalCents / CENTS_PER_UNIT;
+    }
+
+}
@@ -0,0 +1,46 @@
+package br.com.microservices.choreography.sagalauncher;
+
+import br.com.microservices.choreography.inventoryservice.InventoryServiceApplication;
+import br.com.microservices.choreography.orderservice.OrderServiceApplication;
+import br.com.microservices.choreography.paymentservice.PaymentServiceApplication;
+import br.com.microservices.choreography.productvalidationservice.ProductValidationServiceApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/**
+ * Boots the four services as separate Spring contexts in one JVM, wired through the shared in-process
+ * event bus instead of Kafka. Each context reads its own service's configuration, copied into this module
+ * as {@code <service>.yml}, and its own Flyway scripts under {@code db/<service>}. The participants start
+ * first so their subscriptions exist before order-service accepts orders.
+ */
+public class SagaLauncherApplication {
+
+    private static final String IN_PROCESS_TRANSPORT = "--saga.transport.type=in-process";
+    private static final String JDBC_AUTO_CONFIGURATION = String.join(",",
+            "org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration",
+            "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration",
+            "org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration");
+    private static final String MONGO_AUTO_CONFIGURATION = String.join(",",
+            "org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration",
+            "org.springframework.boot.autoconfigure.data.mongo.MongoDataAutoConfiguration",
+            "org.springframework.boot.autoconfigure.data.mongo.MongoRepositoriesAutoConfiguration");
+
+    public static void main(String[] args){
+        start(ProductValidationServiceApplication.class, "product-validation-service", MONGO_AUTO_CONFIGURATION, args);
+        start(PaymentServiceApplication.class, "payment-service", MONGO_AUTO_CONFIGURATION, args);
+        start(InventoryServiceApplication.class, "inventory-service", MONGO_AUTO_CONFIGURATION, args);
+        start(OrderServiceApplication.class, "order-service", JDBC_AUTO_CONFIGURATION, args);
+    }
+
+    private static void start(Class<?> application, String service, String excludedAutoConfiguration, String[] args){
+        new SpringApplicationBuilder(application)
+                .properties(
+                        "spring.config.name=" + service,
+                        "spring.flyway.locations=classpath:db/" + service,
+                        "spring.autoconfigure.exclude=" + excludedAutoConfiguration)
+                .run(Stream.concat(Arrays.stream(args), Stream.of(IN_PROCESS_TRANSPORT)).toArray(String[]::new));
+    }
+
+}